@@ -0,0 +1,122 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.application.codec;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: CacheSerializationBenchmark
+ */
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.revquix.backend.application.config.RedisConfig;
+import com.revquix.backend.application.payload.ExceptionResponse;
+import com.revquix.backend.auth.cache.RefreshTokenCodec;
+import com.revquix.backend.auth.cache.RoleCodec;
+import com.revquix.backend.auth.cache.UserAuthCodec;
+import com.revquix.backend.auth.model.RefreshToken;
+import com.revquix.backend.auth.model.Role;
+import com.revquix.backend.auth.model.UserAuth;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Round trips of the values {@code CacheService} and the JSON {@code redisTemplate} store, using the
+ * {@link RedisConfig} object mapper and the registered cache codecs. Redis itself is not involved.
+ */
+@State(Scope.Benchmark)
+public class CacheSerializationBenchmark {
+
+    private CacheCodecRegistry cacheCodecRegistry;
+    private GenericJackson2JsonRedisSerializer jsonSerializer;
+    private UserAuth userAuth;
+    private RefreshToken refreshToken;
+    private ExceptionResponse exceptionResponse;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new RedisConfig().objectMapper();
+        RoleCodec roleCodec = new RoleCodec();
+        cacheCodecRegistry = new CacheCodecRegistry(objectMapper, List.of(roleCodec, new UserAuthCodec(roleCodec), new RefreshTokenCodec()));
+        jsonSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+        LocalDateTime now = LocalDateTime.now();
+        userAuth = UserAuth.builder()
+                .userId("UA000001")
+                .email("bench@revquix.com")
+                .username("bench_user")
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z8hZ8e8k8mXnRpmXnJJxW0wK")
+                .isEmailVerified(true)
+                .dateCreated(now)
+                .dateUpdated(now)
+                .lastPasswordChange(now)
+                .registerIp("203.0.113.10")
+                .lastLoginIp("203.0.113.10")
+                .roles(List.of(Role.builder().roleId("RL000001").role("ROLE_USER").internalRoles(List.of("ROLE_READ")).build()))
+                .build();
+        refreshToken = RefreshToken.builder()
+                .jti("6f1c2d4e-8a9b-4c3d-9e0f-112233445566")
+                .userId("UA000001")
+                .dateCreated(now)
+                .expiresIn(System.currentTimeMillis() + 604_800_000L)
+                .remoteAddress("203.0.113.10")
+                .build();
+        exceptionResponse = ExceptionResponse.builder()
+                .code("DE-42")
+                .message("Rate limit exceeded")
+                .breadcrumbId("b7f3a1c2d4e5")
+                .httpStatus("TOO_MANY_REQUESTS")
+                .build();
+    }
+
+    @Benchmark
+    public UserAuth userAuthCodecRoundTrip() {
+        return cacheCodecRegistry.decode(cacheCodecRegistry.encode(userAuth), UserAuth.class);
+    }
+
+    @Benchmark
+    public RefreshToken refreshTokenCodecRoundTrip() {
+        return cacheCodecRegistry.decode(cacheCodecRegistry.encode(refreshToken), RefreshToken.class);
+    }
+
+    @Benchmark
+    public ExceptionResponse jsonFallbackRoundTrip() {
+        return cacheCodecRegistry.decode(cacheCodecRegistry.encode(exceptionResponse), ExceptionResponse.class);
+    }
+
+    @Benchmark
+    public Object redisTemplateJsonRoundTrip() {
+        return jsonSerializer.deserialize(jsonSerializer.serialize(userAuth));
+    }
+}
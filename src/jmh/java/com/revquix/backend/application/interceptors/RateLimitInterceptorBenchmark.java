@@ -0,0 +1,141 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.application.interceptors;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: RateLimitInterceptorBenchmark
+ */
+
+import com.revquix.backend.application.annotation.RateLimit;
+import com.revquix.backend.application.enums.RateLimitType;
+import com.revquix.backend.application.payload.RateLimitResult;
+import com.revquix.backend.application.payload.RateLimitWindow;
+import com.revquix.backend.application.properties.RateLimitProperties;
+import com.revquix.backend.application.service.RateLimitService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * {@link RateLimitInterceptor#preHandle} with the metadata registry resolving real {@link RateLimit}
+ * annotations and their SpEL identifiers. The Redis verdict is replaced by a constant allowed result,
+ * so the numbers cover metadata lookup, expression evaluation and header writing only.
+ */
+@State(Scope.Benchmark)
+public class RateLimitInterceptorBenchmark {
+
+    private RateLimitInterceptor rateLimitInterceptor;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private HandlerMethod spelIdentifierHandler;
+    private HandlerMethod ipIdentifierHandler;
+    private HandlerMethod defaultHandler;
+
+    @Setup
+    public void setUp() throws Exception {
+        rateLimitInterceptor = new RateLimitInterceptor(
+                new AllowingRateLimitService(),
+                new RateLimitMetadataRegistry(null)
+        );
+        BenchController controller = new BenchController();
+        spelIdentifierHandler = new HandlerMethod(controller, BenchController.class.getMethod("login"));
+        ipIdentifierHandler = new HandlerMethod(controller, BenchController.class.getMethod("register"));
+        defaultHandler = new HandlerMethod(controller, BenchController.class.getMethod("health"));
+        request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+        request.setRemoteAddr("10.0.0.1");
+        request.addHeader("X-Forwarded-For", "203.0.113.10, 10.0.0.1");
+        request.addHeader("X-Client-Id", "web");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public boolean spelIdentifier() throws Exception {
+        return rateLimitInterceptor.preHandle(request, response, spelIdentifierHandler);
+    }
+
+    @Benchmark
+    public boolean ipIdentifier() throws Exception {
+        return rateLimitInterceptor.preHandle(request, response, ipIdentifierHandler);
+    }
+
+    @Benchmark
+    public boolean defaultIpLimit() throws Exception {
+        return rateLimitInterceptor.preHandle(request, response, defaultHandler);
+    }
+
+    public static class BenchController {
+
+        @RateLimit(
+                requestsPerMinute = 10,
+                requestsPerHour = 100,
+                identifier = "#ip + ':' + #request.getHeader('X-Client-Id')",
+                skipCondition = "#isAdmin"
+        )
+        public void login() {
+        }
+
+        @RateLimit(requestsPerMinute = 5, requestsPerHour = 50)
+        public void register() {
+        }
+
+        public void health() {
+        }
+    }
+
+    private static class AllowingRateLimitService extends RateLimitService {
+
+        private final RateLimitResult allowed = new RateLimitResult(
+                true, 9, 1, 60, LocalDateTime.now().plusSeconds(60), RateLimitType.IP_BASED.getValue()
+        );
+
+        AllowingRateLimitService() {
+            super(null, new RateLimitProperties(), null, new SimpleMeterRegistry());
+        }
+
+        @Override
+        public RateLimitResult checkRateLimits(String identifier, List<RateLimitWindow> windows) {
+            return allowed;
+        }
+
+        @Override
+        public RateLimitResult checkIpRateLimit(String ipAddress) {
+            return allowed;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.application.utils;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: ErrorResponseWriterBenchmark
+ */
+
+import com.revquix.backend.application.constants.ServiceConstants;
+import com.revquix.backend.application.exception.ErrorData;
+import com.revquix.backend.application.payload.ExceptionResponse;
+import com.revquix.backend.application.payload.OutputStreamErrorPayload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.MDC;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+
+@State(Scope.Thread)
+public class ErrorResponseWriterBenchmark {
+
+    private static final String LOCALIZED_MESSAGE = "An error occurred while attempting to decode the Jwt: Jwt expired at 2025-01-01T00:00:00Z";
+
+    @Setup
+    public void setUp() {
+        MDC.put(ServiceConstants.BREADCRUMB_ID, "b7f3a1c2-d4e5-4f60-8a71-92b3c4d5e6f7");
+    }
+
+    @Benchmark
+    public MockHttpServletResponse templateWriter() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ErrorResponseWriter.write(response, HttpStatus.UNAUTHORIZED, ErrorData.MALFORMED_TOKEN, LOCALIZED_MESSAGE, false);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse objectMapperWriter() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ExceptionResponse exceptionResponse = ExceptionResponse
+                .builder()
+                .code(ErrorData.MALFORMED_TOKEN.getCode())
+                .message(ErrorData.MALFORMED_TOKEN.getMessage())
+                .breadcrumbId(MDC.get(ServiceConstants.BREADCRUMB_ID))
+                .isTokenExpired(false)
+                .localizedMessage(LOCALIZED_MESSAGE)
+                .build();
+        OutputStreamUtil.getOutputStream(new OutputStreamErrorPayload(HttpStatus.UNAUTHORIZED, exceptionResponse, response));
+        return response;
+    }
+}
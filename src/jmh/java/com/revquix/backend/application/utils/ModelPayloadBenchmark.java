@@ -0,0 +1,77 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.application.utils;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: ModelPayloadBenchmark
+ */
+
+import com.revquix.backend.application.payload.ExceptionResponse;
+import com.revquix.backend.notification.payload.RegistrationOtpPayload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+
+@State(Scope.Benchmark)
+public class ModelPayloadBenchmark {
+
+    private ExceptionResponse exceptionResponse;
+    private RegistrationOtpPayload registrationOtpPayload;
+
+    @Setup
+    public void setUp() {
+        exceptionResponse = ExceptionResponse.builder()
+                .code("DE-42")
+                .message("Rate limit exceeded")
+                .breadcrumbId("b7f3a1c2d4e5")
+                .localizedMessage("Rate limit exceeded. Try again later")
+                .httpStatus("TOO_MANY_REQUESTS")
+                .timestamp(LocalDateTime.now())
+                .build();
+        registrationOtpPayload = RegistrationOtpPayload.builder()
+                .otp("4821")
+                .email("bench@revquix.com")
+                .build();
+    }
+
+    @Benchmark
+    public String exceptionResponseToJson() {
+        return exceptionResponse.toJson();
+    }
+
+    @Benchmark
+    public String maskedPayloadToJson() {
+        return registrationOtpPayload.toJson();
+    }
+}
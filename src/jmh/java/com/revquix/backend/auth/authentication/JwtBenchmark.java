@@ -0,0 +1,167 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.auth.authentication;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: JwtBenchmark
+ */
+
+import com.revquix.backend.application.utils.IpUtils;
+import com.revquix.backend.auth.config.JwtConfig;
+import com.revquix.backend.auth.model.Role;
+import com.revquix.backend.auth.model.UserAuth;
+import com.revquix.backend.auth.payload.UserIdentity;
+import com.revquix.backend.auth.payload.response.AccessTokenResponse;
+import com.revquix.backend.auth.payload.response.RefreshTokenResponse;
+import com.revquix.backend.auth.properties.AuthenticationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Signs and verifies tokens with the encoder and decoder exactly as {@link JwtConfig} builds them.
+ * The keystore is replaced by an RSA key generated at setup and the client IP by a constant, so
+ * nothing here touches the classpath keystore or a servlet request.
+ */
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    @Param({"false", "true"})
+    private boolean jwtCacheEnabled;
+
+    private JwtTokenGenerator jwtTokenGenerator;
+    private JwtDecoder jwtDecoder;
+    private UserIdentity userIdentity;
+    private String jti;
+    private String accessToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        AuthenticationProperties authenticationProperties = authenticationProperties(jwtCacheEnabled);
+        JwtKeyManager jwtKeyManager = new JwtKeyManager(new InMemoryKeyProvider(authenticationProperties), authenticationProperties);
+        jwtKeyManager.init();
+        JwtConfig jwtConfig = new JwtConfig(jwtKeyManager, authenticationProperties);
+        JwtEncoder jwtEncoder = jwtConfig.jwtEncoder();
+        jwtDecoder = jwtConfig.jwtDecoder();
+        jwtTokenGenerator = new JwtTokenGenerator(
+                jwtEncoder,
+                authenticationProperties,
+                new FixedIpUtils(),
+                new AuthStageTimer(new SimpleMeterRegistry())
+        );
+        userIdentity = UserIdentity.create(UserAuth.builder()
+                .userId("UA000001")
+                .email("bench@revquix.com")
+                .username("bench_user")
+                .password("{noop}unused")
+                .isEmailVerified(true)
+                .roles(List.of(Role.builder().roleId("RL000001").role("ROLE_USER").internalRoles(List.of()).build()))
+                .build());
+        jti = UUID.randomUUID().toString();
+        accessToken = jwtTokenGenerator.accessToken(jti, userIdentity).getAccessToken();
+    }
+
+    @Benchmark
+    public AccessTokenResponse accessToken() {
+        return jwtTokenGenerator.accessToken(jti, userIdentity);
+    }
+
+    @Benchmark
+    public RefreshTokenResponse refreshToken() {
+        return jwtTokenGenerator.refreshToken(jti, userIdentity);
+    }
+
+    @Benchmark
+    public Jwt decode() {
+        return jwtDecoder.decode(accessToken);
+    }
+
+    private static AuthenticationProperties authenticationProperties(boolean jwtCacheEnabled) {
+        AuthenticationProperties authenticationProperties = new AuthenticationProperties();
+        AuthenticationProperties.KeyData keyData = new AuthenticationProperties.KeyData();
+        keyData.setAlias("revquix");
+        keyData.setPassword("unused");
+        authenticationProperties.setKeyData(keyData);
+        AuthenticationProperties.TokenInfo tokenInfo = new AuthenticationProperties.TokenInfo();
+        tokenInfo.setAccessTokenExpiryMinutes(15);
+        tokenInfo.setRefreshTokenExpiryDays(7);
+        authenticationProperties.setInfo(tokenInfo);
+        authenticationProperties.getJwtCache().setEnabled(jwtCacheEnabled);
+        return authenticationProperties;
+    }
+
+    private static class InMemoryKeyProvider extends KeyProvider {
+
+        private final KeyPair keyPair;
+
+        InMemoryKeyProvider(AuthenticationProperties authenticationProperties) throws Exception {
+            super(authenticationProperties);
+            KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+            keyPairGenerator.initialize(2048);
+            this.keyPair = keyPairGenerator.generateKeyPair();
+        }
+
+        @Override
+        public PrivateKey getPrivateKey(String alias, String keyPassword) {
+            return keyPair.getPrivate();
+        }
+
+        @Override
+        public PublicKey getPublicKey(String alias) {
+            return keyPair.getPublic();
+        }
+    }
+
+    private static class FixedIpUtils extends IpUtils {
+
+        FixedIpUtils() {
+            super(null);
+        }
+
+        @Override
+        public String getIpv4() {
+            return "203.0.113.10";
+        }
+    }
+}
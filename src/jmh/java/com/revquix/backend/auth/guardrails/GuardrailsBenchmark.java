@@ -0,0 +1,88 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.auth.guardrails;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: GuardrailsBenchmark
+ */
+
+import com.revquix.backend.notification.properties.MailProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class GuardrailsBenchmark {
+
+    private EmailValidator emailValidator;
+
+    @Setup
+    public void setUp() {
+        MailProperties.MailDomain mailDomain = new MailProperties.MailDomain();
+        mailDomain.setEnabled(true);
+        mailDomain.setAllowedDomains(List.of("gmail.com", "outlook.com", "yahoo.com", "revquix.com"));
+        MailProperties mailProperties = new MailProperties();
+        mailProperties.setMailDomain(mailDomain);
+        emailValidator = new EmailValidator(mailProperties);
+    }
+
+    @Benchmark
+    public void validEmail() {
+        emailValidator.validate("first.last+tag@revquix.com");
+    }
+
+    @Benchmark
+    public void invalidEmail(Blackhole blackhole) {
+        try {
+            emailValidator.validate("first.last@@revquix");
+        } catch (RuntimeException exception) {
+            blackhole.consume(exception);
+        }
+    }
+
+    @Benchmark
+    public void validUsername() {
+        UsernameValidator.validate("bench_user42");
+    }
+
+    @Benchmark
+    public void invalidUsername(Blackhole blackhole) {
+        try {
+            UsernameValidator.validate("42_starts_with_digit");
+        } catch (RuntimeException exception) {
+            blackhole.consume(exception);
+        }
+    }
+}
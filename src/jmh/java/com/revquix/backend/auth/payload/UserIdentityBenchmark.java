@@ -0,0 +1,73 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.auth.payload;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: UserIdentityBenchmark
+ */
+
+import com.revquix.backend.auth.model.Role;
+import com.revquix.backend.auth.model.UserAuth;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class UserIdentityBenchmark {
+
+    private UserAuth userAuth;
+
+    @Setup
+    public void setUp() {
+        userAuth = UserAuth.builder()
+                .userId("UA000001")
+                .email("bench@revquix.com")
+                .username("bench_user")
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z8hZ8e8k8mXnRpmXnJJxW0wK")
+                .isEmailVerified(true)
+                .lastPasswordChange(LocalDateTime.now())
+                .lastLoginIp("203.0.113.10")
+                .roles(List.of(
+                        Role.builder().roleId("RL000001").role("ROLE_USER").internalRoles(List.of("ROLE_READ")).build(),
+                        Role.builder().roleId("RL000002").role("ROLE_MENTOR").internalRoles(List.of("ROLE_READ", "ROLE_WRITE")).build()
+                ))
+                .build();
+    }
+
+    @Benchmark
+    public UserIdentity create() {
+        return UserIdentity.create(userAuth);
+    }
+}
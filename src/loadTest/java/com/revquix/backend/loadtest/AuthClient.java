@@ -0,0 +1,125 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.loadtest;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: AuthClient
+ */
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * Drives the public endpoints the way the web client does: form login, the refresh token carried in
+ * its cookie, bearer access tokens. Every call returns the HTTP status so the runner can tally it.
+ */
+public class AuthClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final String refreshCookieName;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public AuthClient(String baseUrl, String refreshCookieName) {
+        this.baseUrl = baseUrl;
+        this.refreshCookieName = refreshCookieName;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    public int login(VirtualUser user) throws IOException, InterruptedException {
+        String form = "entrypoint=" + URLEncoder.encode(user.getEmail(), StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(user.getPassword(), StandardCharsets.UTF_8);
+        HttpRequest request = request("/v1/auth/token", user)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build();
+        return exchangeTokens(request, user);
+    }
+
+    public int refresh(VirtualUser user) throws IOException, InterruptedException {
+        HttpRequest request = request("/v1/auth/refresh-token", user)
+                .header("Cookie", refreshCookieName + "=" + user.getRefreshToken())
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        return exchangeTokens(request, user);
+    }
+
+    public int sessions(VirtualUser user) throws IOException, InterruptedException {
+        HttpRequest request = request("/v1/user-auth/sessions", user)
+                .header("Authorization", "Bearer " + user.getAccessToken())
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private int exchangeTokens(HttpRequest request, VirtualUser user) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 == 2) {
+            JsonNode body = objectMapper.readTree(response.body());
+            user.updateTokens(body.path("accessToken").asText(null), refreshCookie(response));
+        }
+        return response.statusCode();
+    }
+
+    private String refreshCookie(HttpResponse<?> response) {
+        String prefix = refreshCookieName + "=";
+        return response.headers().allValues("Set-Cookie").stream()
+                .filter(cookie -> cookie.startsWith(prefix))
+                .map(cookie -> {
+                    int end = cookie.indexOf(';');
+                    return cookie.substring(prefix.length(), end < 0 ? cookie.length() : end);
+                })
+                .findFirst()
+                .orElse(null);
+    }
+
+    private HttpRequest.Builder request(String path, VirtualUser user) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("X-Forwarded-For", user.getIp());
+    }
+}
@@ -0,0 +1,152 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.loadtest;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: LoadHarness
+ */
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.revquix.backend.RevquixBackendApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * End-to-end throughput harness. Starts Postgres and Redis in containers, the mail and geo stubs and
+ * the application itself in this JVM, seeds users and runs the selected workloads against the real
+ * HTTP port. Results are logged and written as JSON to {@code loadtest.report-dir} so releases can be
+ * compared run against run.
+ */
+@Slf4j
+public class LoadHarness {
+
+    private static final DateTimeFormatter REPORT_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        try (LoadTestInfrastructure infrastructure = new LoadTestInfrastructure(options);
+             ConfigurableApplicationContext context = new SpringApplicationBuilder(RevquixBackendApplication.class)
+                     .properties(infrastructure.applicationProperties(options))
+                     .run(args)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String refreshCookieName = context.getEnvironment().getRequiredProperty("auth.info.refresh-token-cookie-name");
+            AuthClient authClient = new AuthClient("http://127.0.0.1:" + port, refreshCookieName);
+
+            List<VirtualUser> allUsers = new UserSeeder(
+                    context.getBean(JdbcTemplate.class),
+                    new TransactionTemplate(context.getBean(PlatformTransactionManager.class)),
+                    context.getBean(PasswordEncoder.class)
+            ).seed(options.users(), options.mfaUsers());
+            List<VirtualUser> tokenUsers = allUsers.stream().filter(user -> !user.isMfaEnabled()).toList();
+
+            WorkloadRunner runner = new WorkloadRunner(options);
+            List<WorkloadResult> results = new ArrayList<>();
+            boolean primed = false;
+            for (String workload : options.workloads()) {
+                if (!primed && !workload.equals("login-storm")) {
+                    primeTokens(authClient, tokenUsers, options.concurrency());
+                    primed = true;
+                }
+                results.add(runner.run(switch (workload) {
+                    case "login-storm" -> new LoginStormWorkload(authClient, allUsers);
+                    case "refresh-churn" -> new RefreshChurnWorkload(authClient, tokenUsers, options.concurrency());
+                    case "zipf-traffic" -> new ZipfTrafficWorkload(authClient, tokenUsers, options.zipfExponent());
+                    default -> throw new IllegalArgumentException("Unknown workload " + workload);
+                }));
+            }
+            report(options, results, infrastructure.stubUpstreams());
+        }
+    }
+
+    /**
+     * Logs every user in once so refresh and authenticated workloads start with valid tokens
+     */
+    private static void primeTokens(AuthClient authClient, List<VirtualUser> users, int concurrency) throws Exception {
+        AtomicInteger failures = new AtomicInteger();
+        try (ExecutorService executor = Executors.newFixedThreadPool(concurrency, Thread.ofVirtual().factory())) {
+            List<Future<?>> logins = new ArrayList<>(users.size());
+            for (VirtualUser user : users) {
+                logins.add(executor.submit(() -> {
+                    if (authClient.login(user) / 100 != 2) {
+                        failures.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> login : logins) {
+                login.get();
+            }
+        }
+        if (failures.get() > 0) {
+            throw new IllegalStateException(failures.get() + " of " + users.size() + " priming logins failed");
+        }
+        log.info("LoadHarness::primeTokens -> Logged in {} users", users.size());
+    }
+
+    private static void report(LoadTestOptions options, List<WorkloadResult> results, StubUpstreams stubUpstreams) throws Exception {
+        results.forEach(result -> log.info("LoadHarness::report -> {}", result.summary()));
+        log.info("LoadHarness::report -> Stub upstream calls: mail={}, geo={}", stubUpstreams.mailRequests(), stubUpstreams.geoRequests());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("label", options.label());
+        report.put("timestamp", Instant.now().toString());
+        report.put("javaVersion", Runtime.version().toString());
+        report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        report.put("options", options);
+        report.put("results", results);
+        Path reportDir = Path.of(options.reportDir());
+        Files.createDirectories(reportDir);
+        Path reportFile = reportDir.resolve("load-test-" + options.label() + "-" + REPORT_TIMESTAMP.format(Instant.now()) + ".json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile.toFile(), report);
+        log.info("LoadHarness::report -> Report written to {}", reportFile.toAbsolutePath());
+    }
+}
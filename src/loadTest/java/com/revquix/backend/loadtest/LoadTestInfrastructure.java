@@ -0,0 +1,110 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.loadtest;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: LoadTestInfrastructure
+ */
+
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Throwaway Postgres and Redis in containers plus the stub upstreams, and the application properties
+ * that point the service at them. Images are pinned so runs on different machines stay comparable.
+ */
+@Slf4j
+public class LoadTestInfrastructure implements AutoCloseable {
+
+    private static final String POSTGRES_IMAGE = "postgres:16-alpine";
+    private static final String REDIS_IMAGE = "redis:7.4-alpine";
+    private static final String REDIS_PASSWORD = "loadtest";
+    private static final int REDIS_PORT = 6379;
+
+    private final PostgreSQLContainer<?> postgres;
+    private final GenericContainer<?> redis;
+    private final StubUpstreams stubUpstreams;
+
+    public LoadTestInfrastructure(LoadTestOptions options) throws Exception {
+        postgres = new PostgreSQLContainer<>(DockerImageName.parse(POSTGRES_IMAGE))
+                .withDatabaseName("revquix")
+                .withUsername("revquix")
+                .withPassword("loadtest")
+                .withCommand("postgres", "-c", "max_connections=300");
+        redis = new GenericContainer<>(DockerImageName.parse(REDIS_IMAGE))
+                .withExposedPorts(REDIS_PORT)
+                .withCommand("redis-server", "--requirepass", REDIS_PASSWORD, "--save", "", "--appendonly", "no");
+        postgres.start();
+        redis.start();
+        stubUpstreams = new StubUpstreams(options.stubLatencyMs());
+        log.info("{}::init -> Postgres at {}, Redis at {}:{}", getClass().getSimpleName(),
+                postgres.getJdbcUrl(), redis.getHost(), redis.getMappedPort(REDIS_PORT));
+    }
+
+    public StubUpstreams stubUpstreams() {
+        return stubUpstreams;
+    }
+
+    public Map<String, Object> applicationProperties(LoadTestOptions options) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url", postgres.getJdbcUrl());
+        properties.put("spring.datasource.hikari.username", postgres.getUsername());
+        properties.put("spring.datasource.hikari.password", postgres.getPassword());
+        properties.put("spring.jpa.properties.hibernate.show_sql", false);
+        properties.put("spring.data.redis.host", redis.getHost());
+        properties.put("spring.data.redis.port", redis.getMappedPort(REDIS_PORT));
+        properties.put("spring.data.redis.password", REDIS_PASSWORD);
+        properties.put("mail.zepto-mail.api-key", "loadtest");
+        properties.put("mail.zepto-mail.api-url", stubUpstreams.baseUrl() + StubUpstreams.MAIL_PATH);
+        properties.put("mail.outbox.payload-key", "bG9hZHRlc3Qtb3V0Ym94LXBheWxvYWQta2V5LTMyYiE=");
+        properties.put("geo-location.provider", "ip-api");
+        properties.put("geo-location.ip-api.base-url", stubUpstreams.baseUrl() + StubUpstreams.GEO_PATH);
+        properties.put("auth.otp-hashing.pepper", "loadtest-pepper");
+        properties.put("rate-limiting.enabled", options.rateLimiting());
+        properties.put("spring.threads.virtual.enabled", options.virtualThreads());
+        properties.put("logging.level.com.revquix.backend", "WARN");
+        properties.put("logging.level.com.revquix.backend.loadtest", "INFO");
+        return properties;
+    }
+
+    @Override
+    public void close() {
+        stubUpstreams.close();
+        redis.stop();
+        postgres.stop();
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.loadtest;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: LoadTestOptions
+ */
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Harness settings, read from {@code loadtest.*} system properties. The Gradle {@code loadTest} task
+ * forwards every {@code -Ploadtest.*} project property, e.g.
+ * {@code ./gradlew loadTest -Ploadtest.workloads=zipf-traffic -Ploadtest.concurrency=128}.
+ * {@code loadtest.virtual-threads} pins {@code spring.threads.virtual.enabled} for the application under
+ * test, so platform and virtual thread runs can be compared with the same workload settings.
+ */
+public record LoadTestOptions(
+        String label,
+        List<String> workloads,
+        int users,
+        int mfaUsers,
+        int concurrency,
+        int warmupSeconds,
+        int durationSeconds,
+        double zipfExponent,
+        long stubLatencyMs,
+        boolean rateLimiting,
+        boolean virtualThreads,
+        String reportDir
+) {
+
+    public static LoadTestOptions fromSystemProperties() {
+        LoadTestOptions options = new LoadTestOptions(
+                System.getProperty("loadtest.label", "local"),
+                Arrays.stream(System.getProperty("loadtest.workloads", "login-storm,refresh-churn,zipf-traffic").split(","))
+                        .map(String::trim)
+                        .filter(workload -> !workload.isEmpty())
+                        .toList(),
+                Integer.getInteger("loadtest.users", 2000),
+                Integer.getInteger("loadtest.mfa-users", 50),
+                Integer.getInteger("loadtest.concurrency", 64),
+                Integer.getInteger("loadtest.warmup-seconds", 15),
+                Integer.getInteger("loadtest.duration-seconds", 60),
+                Double.parseDouble(System.getProperty("loadtest.zipf-exponent", "1.1")),
+                Long.getLong("loadtest.stub-latency-ms", 50L),
+                Boolean.parseBoolean(System.getProperty("loadtest.rate-limiting", "false")),
+                Boolean.parseBoolean(System.getProperty("loadtest.virtual-threads", "false")),
+                System.getProperty("loadtest.report-dir", "build/reports/load-test")
+        );
+        if (options.concurrency() > options.users()) {
+            throw new IllegalArgumentException("loadtest.concurrency must not exceed loadtest.users, refresh churn gives every worker its own users");
+        }
+        return options;
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.loadtest;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: LoginStormWorkload
+ */
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Every worker logs in back to back, cycling through all users including the MFA ones, which
+ * exercises password verification, token signing and the MFA mail/geo path together.
+ */
+@RequiredArgsConstructor
+public class LoginStormWorkload implements Workload {
+
+    private final AuthClient authClient;
+    private final List<VirtualUser> users;
+    private final AtomicLong cursor = new AtomicLong();
+
+    @Override
+    public String name() {
+        return "login-storm";
+    }
+
+    @Override
+    public int execute(int worker, long iteration) throws Exception {
+        return authClient.login(users.get((int) (cursor.getAndIncrement() % users.size())));
+    }
+}
@@ -0,0 +1,67 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.loadtest;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: RefreshChurnWorkload
+ */
+
+import java.util.List;
+
+/**
+ * Rotates refresh tokens continuously. Each refresh invalidates the token it used, so every user
+ * belongs to exactly one worker and is never refreshed by two requests at once.
+ */
+public class RefreshChurnWorkload implements Workload {
+
+    private final AuthClient authClient;
+    private final List<VirtualUser> users;
+    private final int workers;
+    private final int usersPerWorker;
+
+    public RefreshChurnWorkload(AuthClient authClient, List<VirtualUser> users, int workers) {
+        this.authClient = authClient;
+        this.users = users;
+        this.workers = workers;
+        this.usersPerWorker = users.size() / workers;
+    }
+
+    @Override
+    public String name() {
+        return "refresh-churn";
+    }
+
+    @Override
+    public int execute(int worker, long iteration) throws Exception {
+        int slot = (int) (iteration % usersPerWorker);
+        return authClient.refresh(users.get(worker + slot * workers));
+    }
+}
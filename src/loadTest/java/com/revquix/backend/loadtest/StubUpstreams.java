@@ -0,0 +1,127 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.loadtest;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: StubUpstreams
+ */
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Stand-ins for ZeptoMail and ip-api.com on a local JDK HTTP server. Both answer with the shape the
+ * application parses after {@code stubLatencyMs}, so outbox sends and geo lookups cost roughly what
+ * they would against the real services without leaving the machine.
+ */
+@Slf4j
+public class StubUpstreams implements AutoCloseable {
+
+    public static final String MAIL_PATH = "/zeptomail/v1.1/email";
+    public static final String GEO_PATH = "/ip-api/json";
+
+    private static final String GEO_RESPONSE = """
+            {"status":"success","country":"India","countryCode":"IN","region":"KA","regionName":"Karnataka",\
+            "city":"Bengaluru","zip":"560001","lat":12.97,"lon":77.59,"timezone":"Asia/Kolkata",\
+            "isp":"Load Test","org":"Load Test"}""";
+
+    private final HttpServer server;
+    private final long latencyMs;
+    private final LongAdder mailRequests = new LongAdder();
+    private final LongAdder geoRequests = new LongAdder();
+
+    public StubUpstreams(long latencyMs) throws IOException {
+        this.latencyMs = latencyMs;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext(MAIL_PATH, this::mail);
+        server.createContext(GEO_PATH, this::geo);
+        server.start();
+        log.info("{}::init -> Stub upstreams listening on {}", getClass().getSimpleName(), baseUrl());
+    }
+
+    public String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    public long mailRequests() {
+        return mailRequests.sum();
+    }
+
+    public long geoRequests() {
+        return geoRequests.sum();
+    }
+
+    private void mail(HttpExchange exchange) throws IOException {
+        mailRequests.increment();
+        try (InputStream body = exchange.getRequestBody()) {
+            body.transferTo(OutputStream.nullOutputStream());
+        }
+        respond(exchange, 201, """
+                {"data":[{"code":"EM_104","message":"Email request received"}],"message":"OK",\
+                "request_id":"%s","object":"email"}""".formatted(UUID.randomUUID()));
+    }
+
+    private void geo(HttpExchange exchange) throws IOException {
+        geoRequests.increment();
+        respond(exchange, 200, GEO_RESPONSE);
+    }
+
+    private void respond(HttpExchange exchange, int status, String json) throws IOException {
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
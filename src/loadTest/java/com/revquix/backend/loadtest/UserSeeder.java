@@ -0,0 +1,112 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.loadtest;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: UserSeeder
+ */
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inserts verified accounts straight into {@code auth.user_auth} with the {@code user} role, skipping
+ * the OTP registration round trip. All accounts share one password, hashed once with the
+ * application's own encoder so logins pay the production verification cost.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class UserSeeder {
+
+    private static final String PASSWORD = "Load@Test1234";
+    private static final String USER_ROLE_ID = "user";
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    public List<VirtualUser> seed(int users, int mfaUsers) {
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        List<VirtualUser> seeded = new ArrayList<>(users + mfaUsers);
+        for (int index = 0; index < users + mfaUsers; index++) {
+            seeded.add(new VirtualUser(
+                    String.format("LT%07d", index + 1),
+                    String.format("loadtest.user%07d@revquix.com", index + 1),
+                    PASSWORD,
+                    // 198.18.0.0/15 is reserved for benchmarking, one address per user
+                    "198." + (18 + (index >> 16)) + "." + ((index >> 8) & 0xFF) + "." + (index & 0xFF),
+                    index >= users
+            ));
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 0; from < seeded.size(); from += BATCH_SIZE) {
+            List<VirtualUser> batch = seeded.subList(from, Math.min(from + BATCH_SIZE, seeded.size()));
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate("""
+                                INSERT INTO auth.user_auth (user_id, email, password, is_email_verified, is_enabled,
+                                    is_account_non_locked, auth_provider, date_created, date_updated, last_password_change,
+                                    register_ip, user_badge, mfa_enabled)
+                                VALUES (?, ?, ?, TRUE, TRUE, TRUE, '{local}', ?, ?, ?, ?, 'STANDARD', ?)""",
+                        batch,
+                        batch.size(),
+                        (statement, user) -> {
+                            statement.setString(1, user.getUserId());
+                            statement.setString(2, user.getEmail());
+                            statement.setString(3, passwordHash);
+                            statement.setTimestamp(4, now);
+                            statement.setTimestamp(5, now);
+                            statement.setTimestamp(6, now);
+                            statement.setString(7, user.getIp());
+                            statement.setBoolean(8, user.isMfaEnabled());
+                        });
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO auth.user_role (user_auth_id, role_id) VALUES (?, ?)",
+                        batch,
+                        batch.size(),
+                        (statement, user) -> {
+                            statement.setString(1, user.getUserId());
+                            statement.setString(2, USER_ROLE_ID);
+                        });
+            });
+        }
+        log.info("{}::seed -> Seeded {} users, {} of them with MFA", getClass().getSimpleName(), seeded.size(), mfaUsers);
+        return seeded;
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.loadtest;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: VirtualUser
+ */
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * One seeded account and the tokens it currently holds. Each user keeps a fixed client address so the
+ * remote address bound into its tokens matches on every later call.
+ */
+@Getter
+@RequiredArgsConstructor
+public class VirtualUser {
+
+    private final String userId;
+    private final String email;
+    private final String password;
+    private final String ip;
+    private final boolean mfaEnabled;
+
+    private volatile String accessToken;
+    private volatile String refreshToken;
+
+    public void updateTokens(String accessToken, String refreshToken) {
+        if (accessToken != null) {
+            this.accessToken = accessToken;
+        }
+        if (refreshToken != null) {
+            this.refreshToken = refreshToken;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.loadtest;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: WorkloadResult
+ */
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Throughput and latency of one measured phase; latencies are in milliseconds.
+ */
+public record WorkloadResult(
+        String workload,
+        int concurrency,
+        int durationSeconds,
+        long requests,
+        double throughputPerSecond,
+        double p50Ms,
+        double p99Ms,
+        double p999Ms,
+        double maxMs,
+        Map<Integer, Long> statusCounts
+) {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    public static WorkloadResult of(String workload, int concurrency, int durationSeconds, Histogram histogram, Map<Integer, Long> statusCounts) {
+        long requests = histogram.getTotalCount();
+        return new WorkloadResult(
+                workload,
+                concurrency,
+                durationSeconds,
+                requests,
+                requests / (double) durationSeconds,
+                histogram.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+                histogram.getMaxValue() / NANOS_PER_MILLI,
+                new TreeMap<>(statusCounts)
+        );
+    }
+
+    public String summary() {
+        return String.format("%-14s %8d req %9.1f req/s   p50 %8.2f ms   p99 %8.2f ms   p999 %8.2f ms   max %8.2f ms   status %s",
+                workload, requests, throughputPerSecond, p50Ms, p99Ms, p999Ms, maxMs, statusCounts);
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.loadtest;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: WorkloadRunner
+ */
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Closed-loop runner: {@code concurrency} virtual-thread workers each send their next request as soon
+ * as the previous one returns. Requests started during the warmup are not recorded. Because a slow
+ * response also delays the next send, tail latencies under overload are a lower bound; compare runs
+ * at the same concurrency.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class WorkloadRunner {
+
+    private static final int TRANSPORT_ERROR = -1;
+
+    private final LoadTestOptions options;
+
+    public WorkloadResult run(Workload workload) {
+        Recorder recorder = new Recorder(TimeUnit.SECONDS.toNanos(60), 3);
+        Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+        long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(options.warmupSeconds());
+        long end = warmupEnd + TimeUnit.SECONDS.toNanos(options.durationSeconds());
+        log.info("{}::run -> {} with {} workers, {}s warmup, {}s measured", getClass().getSimpleName(),
+                workload.name(), options.concurrency(), options.warmupSeconds(), options.durationSeconds());
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < options.concurrency(); worker++) {
+                int workerId = worker;
+                workers.submit(() -> {
+                    long iteration = 0;
+                    long startedAt;
+                    while ((startedAt = System.nanoTime()) < end) {
+                        int status;
+                        try {
+                            status = workload.execute(workerId, iteration++);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        } catch (Exception e) {
+                            status = TRANSPORT_ERROR;
+                        }
+                        if (startedAt >= warmupEnd) {
+                            recorder.recordValue(System.nanoTime() - startedAt);
+                            statusCounts.computeIfAbsent(status, ignored -> new LongAdder()).increment();
+                        }
+                    }
+                });
+            }
+        }
+        Map<Integer, Long> counts = statusCounts.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum()));
+        return WorkloadResult.of(workload.name(), options.concurrency(), options.durationSeconds(), recorder.getIntervalHistogram(), counts);
+    }
+}
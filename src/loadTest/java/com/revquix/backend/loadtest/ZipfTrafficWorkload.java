@@ -0,0 +1,64 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.loadtest;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: ZipfTrafficWorkload
+ */
+
+import java.util.List;
+
+/**
+ * Authenticated {@code GET /v1/user-auth/sessions} calls with users drawn from a Zipf distribution,
+ * so the hot users stay in the near cache and the long tail keeps missing to Redis and Postgres.
+ */
+public class ZipfTrafficWorkload implements Workload {
+
+    private final AuthClient authClient;
+    private final List<VirtualUser> users;
+    private final ZipfSampler zipfSampler;
+
+    public ZipfTrafficWorkload(AuthClient authClient, List<VirtualUser> users, double exponent) {
+        this.authClient = authClient;
+        this.users = users;
+        this.zipfSampler = new ZipfSampler(users.size(), exponent);
+    }
+
+    @Override
+    public String name() {
+        return "zipf-traffic";
+    }
+
+    @Override
+    public int execute(int worker, long iteration) throws Exception {
+        return authClient.sessions(users.get(zipfSampler.sample()));
+    }
+}
@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -32,11 +32,13 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.retry.annotation.EnableRetry;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing
 @EnableRetry
 @EnableAsync
+@EnableScheduling
 public class RevquixBackendApplication {
 
     public static void main(String[] args) {
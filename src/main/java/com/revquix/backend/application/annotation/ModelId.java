@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -46,4 +46,9 @@ public @interface ModelId {
     String prefix();
     String sequence();
     int length() default 4;
+
+    /**
+     * Ids reserved per {@code nextval}. Must not exceed the sequence's {@code INCREMENT BY}.
+     */
+    int allocationSize() default 1;
 }
\ No newline at end of file
@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -41,43 +41,72 @@ import com.revquix.backend.application.utils.SequenceEntityContextBridge;
 import jakarta.persistence.PrePersist;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
 
 public class ModelIdListener {
 
+    /**
+     * {@code @ModelId} fields per entity class, resolved on first persist of that class.
+     */
+    private static final ClassValue<List<IdField>> ID_FIELDS = new ClassValue<>() {
+        @Override
+        protected List<IdField> computeValue(Class<?> type) {
+            List<IdField> idFields = new ArrayList<>();
+            for (Field field : type.getDeclaredFields()) {
+                ModelId annotation = field.getAnnotation(ModelId.class);
+                if (annotation == null) continue;
+                if (annotation.sequence() == null || annotation.sequence().trim().isEmpty()) {
+                    throw new InternalServerException(ErrorData.SEQUENCE_NULL_OR_EMPTY);
+                }
+                field.setAccessible(true);
+                idFields.add(new IdField(field, annotation));
+            }
+            return List.copyOf(idFields);
+        }
+    };
+
     @PrePersist
     public void generateCustomId(Object entity) {
-        Class<?> clazz = entity.getClass();
-
-        for (Field field : clazz.getDeclaredFields()) {
-            if (field.isAnnotationPresent(ModelId.class)) {
-                try {
-                    field.setAccessible(true);
-                    Object currentValue = field.get(entity);
-                    if (currentValue != null) continue;
+        for (IdField idField : ID_FIELDS.get(entity.getClass())) {
+            Field field = idField.field;
+            try {
+                Object currentValue = field.get(entity);
+                if (currentValue != null) continue;
 
-                    ModelId annotation = field.getAnnotation(ModelId.class);
-                    String prefix = annotation.prefix();
-                    String sequence = annotation.sequence();
-                    int length = annotation.length();
-                    if (sequence == null || sequence.trim().isEmpty()) {
-                        throw new InternalServerException(ErrorData.SEQUENCE_NULL_OR_EMPTY);
-                    }
-                    String customId = generateSequenceId(prefix, sequence, length);
-                    field.set(entity, customId);
+                field.set(entity, idField.format(generateSequenceId(idField)));
 
-                } catch (IllegalAccessException e) {
-                    throw new InternalServerException(ErrorData.FAILED_TO_GENERATE_SEQUENCE, String.format("Failed to generate ID for field: %s", field.getName()));
-                } catch (Exception e) {
-                    throw new InternalServerException(ErrorData.ID_GENERATION_FAILED, String.format("ID Generation failed for field: %s", field.getName()));
-                }
+            } catch (IllegalAccessException e) {
+                throw new InternalServerException(ErrorData.FAILED_TO_GENERATE_SEQUENCE, String.format("Failed to generate ID for field: %s", field.getName()));
+            } catch (Exception e) {
+                throw new InternalServerException(ErrorData.ID_GENERATION_FAILED, String.format("ID Generation failed for field: %s", field.getName()));
             }
         }
     }
 
-    private synchronized String generateSequenceId(String prefix, String sequence, int length) {
-        Long nextVal = SequenceEntityContextBridge.getSequenceService()
-                .getNextSequenceValue(sequence);
-        return String.format("%s%0" + length + "d", prefix, nextVal);
+    private long generateSequenceId(IdField idField) {
+        return SequenceEntityContextBridge.getSequenceAllocator()
+                .next(idField.sequence, idField.allocationSize);
     }
 
+    private static final class IdField {
+
+        private final Field field;
+        private final String prefix;
+        private final String sequence;
+        private final String pattern;
+        private final int allocationSize;
+
+        private IdField(Field field, ModelId annotation) {
+            this.field = field;
+            this.prefix = annotation.prefix();
+            this.sequence = annotation.sequence();
+            this.pattern = "%0" + annotation.length() + "d";
+            this.allocationSize = annotation.allocationSize();
+        }
+
+        private String format(long value) {
+            return prefix + String.format(pattern, value);
+        }
+    }
 }
@@ -0,0 +1,56 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.application.codec;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: CacheCodec
+ */
+
+/**
+ * Binary encoding of one cached type. The registry frames every value with the codec id and the
+ * {@link #version()} it was written with, and hands that version back to {@link #read}, so a codec
+ * can keep reading entries written by the previous release during a rolling deploy.
+ */
+public interface CacheCodec<T> {
+
+    /**
+     * Stable id stored in every entry; never reuse an id for a different type.
+     */
+    int codecId();
+
+    int version();
+
+    Class<T> type();
+
+    void write(T value, CacheBinaryWriter writer);
+
+    T read(CacheBinaryReader reader, int version);
+}
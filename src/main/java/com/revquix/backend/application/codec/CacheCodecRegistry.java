@@ -0,0 +1,126 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.application.codec;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: CacheCodecRegistry
+ */
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns cache values into Redis bytes and back. Types with a {@link CacheCodec} are written as
+ * {@code [MAGIC, codecId, version, body...]}; everything else, and entries written before codecs
+ * existed, is plain JSON read straight into the requested type.
+ */
+@Component
+@Slf4j
+public class CacheCodecRegistry {
+
+    static final byte MAGIC = (byte) 0xB1;
+    private static final int HEADER_BYTES = 3;
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, CacheCodec<?>> codecsByType = new HashMap<>();
+    private final CacheCodec<?>[] codecsById = new CacheCodec<?>[256];
+
+    public CacheCodecRegistry(ObjectMapper objectMapper, List<CacheCodec<?>> codecs) {
+        this.objectMapper = objectMapper;
+        for (CacheCodec<?> codec : codecs) {
+            int codecId = codec.codecId();
+            if (codecId < 1 || codecId > 255 || codecsById[codecId] != null) {
+                throw new IllegalStateException("Invalid or duplicate cache codec id " + codecId + " for " + codec.type().getName());
+            }
+            codecsById[codecId] = codec;
+            codecsByType.put(codec.type(), codec);
+            log.info("{}::init -> Registered cache codec {} v{} for {}", getClass().getSimpleName(), codecId, codec.version(), codec.type().getSimpleName());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public byte[] encode(Object value) {
+        CacheCodec<Object> codec = (CacheCodec<Object>) codecFor(value.getClass());
+        if (codec == null) {
+            try {
+                return objectMapper.writeValueAsBytes(value);
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+        CacheBinaryWriter writer = new CacheBinaryWriter(128);
+        writer.writeByte(MAGIC);
+        writer.writeByte(codec.codecId());
+        writer.writeByte(codec.version());
+        codec.write(value, writer);
+        return writer.toByteArray();
+    }
+
+    public <T> T decode(byte[] bytes, Class<T> type) {
+        return decode(bytes, 0, type);
+    }
+
+    public <T> T decode(byte[] bytes, int offset, Class<T> type) {
+        if (bytes.length - offset >= HEADER_BYTES && bytes[offset] == MAGIC) {
+            CacheCodec<?> codec = codecsById[bytes[offset + 1] & 0xFF];
+            if (codec == null || !type.isAssignableFrom(codec.type())) {
+                throw new IllegalStateException("No cache codec " + (bytes[offset + 1] & 0xFF) + " for " + type.getSimpleName());
+            }
+            int version = bytes[offset + 2] & 0xFF;
+            if (version > codec.version()) {
+                throw new IllegalStateException("Cache entry for " + type.getSimpleName() + " has newer version " + version);
+            }
+            return type.cast(codec.read(new CacheBinaryReader(bytes, offset + HEADER_BYTES), version));
+        }
+        try {
+            return objectMapper.readValue(bytes, offset, bytes.length - offset, type);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private CacheCodec<?> codecFor(Class<?> type) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            CacheCodec<?> codec = codecsByType.get(current);
+            if (codec != null) {
+                return codec;
+            }
+        }
+        return null;
+    }
+}
@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -34,11 +34,15 @@ package com.revquix.backend.application.config;
   File: AsyncTaskConfig
  */
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -68,10 +72,19 @@ public class AsyncTaskConfig {
     @Value("${async.executor.thread-name-prefix:revquix-async-}")
     private String threadNamePrefix;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @Value("${async.executor.virtual-concurrency-limit:200}")
+    private int virtualConcurrencyLimit;
+
     private ThreadPoolTaskExecutor taskExecutor;
 
     @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
+    public Executor taskExecutor(MeterRegistry meterRegistry) {
+        if (virtualThreadsEnabled) {
+            return virtualTaskExecutor();
+        }
         log.info("{}::taskExecutor -> Creating EventTaskExecutor with corePoolSize: {}, maxPoolSize: {}, queueCapacity: {}",
                 getClass().getSimpleName(), corePoolSize, maxPoolSize, queueCapacity);
 
@@ -83,7 +96,14 @@ public class AsyncTaskConfig {
         taskExecutor.setThreadNamePrefix(threadNamePrefix);
 
         // Use CallerRunsPolicy for production - prevents task rejection and provides backpressure
-        taskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        Counter callerRunsCounter = Counter.builder("revquix.async.executor.caller.runs")
+                .description("Async tasks run on the submitting thread because the queue was full")
+                .register(meterRegistry);
+        ThreadPoolExecutor.CallerRunsPolicy callerRunsPolicy = new ThreadPoolExecutor.CallerRunsPolicy();
+        taskExecutor.setRejectedExecutionHandler((runnable, executor) -> {
+            callerRunsCounter.increment();
+            callerRunsPolicy.rejectedExecution(runnable, executor);
+        });
 
         // Enable graceful shutdown
         taskExecutor.setWaitForTasksToCompleteOnShutdown(true);
@@ -93,10 +113,42 @@ public class AsyncTaskConfig {
         taskExecutor.setAllowCoreThreadTimeOut(true);
 
         taskExecutor.initialize();
+        registerGauges(taskExecutor, meterRegistry);
 
         return taskExecutor;
     }
 
+    private void registerGauges(ThreadPoolTaskExecutor executor, MeterRegistry meterRegistry) {
+        Gauge.builder("revquix.async.executor.queue.size", executor, pool -> pool.getThreadPoolExecutor().getQueue().size())
+                .description("Async tasks waiting for a thread")
+                .register(meterRegistry);
+        Gauge.builder("revquix.async.executor.queue.remaining", executor, pool -> pool.getThreadPoolExecutor().getQueue().remainingCapacity())
+                .description("Free slots left in the async task queue")
+                .register(meterRegistry);
+        Gauge.builder("revquix.async.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Async threads currently running a task")
+                .register(meterRegistry);
+        Gauge.builder("revquix.async.executor.pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+                .description("Async threads currently alive")
+                .register(meterRegistry);
+    }
+
+    /**
+     * One virtual thread per task. The concurrency limit replaces the pool size and queue as the cap
+     * on simultaneous tasks and is deliberately higher than {@code max-pool-size}; downstream
+     * connections stay bounded by the Hikari pool and the per-upstream connection pools and bulkheads,
+     * not by this limit.
+     */
+    private Executor virtualTaskExecutor() {
+        log.info("{}::virtualTaskExecutor -> Creating virtual thread EventTaskExecutor with concurrencyLimit: {}",
+                getClass().getSimpleName(), virtualConcurrencyLimit);
+        SimpleAsyncTaskExecutor virtualExecutor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        virtualExecutor.setVirtualThreads(true);
+        virtualExecutor.setConcurrencyLimit(virtualConcurrencyLimit);
+        virtualExecutor.setTaskTerminationTimeout(awaitTerminationSeconds * 1000L);
+        return virtualExecutor;
+    }
+
     @PreDestroy
     public void destroy() {
         if (taskExecutor != null) {
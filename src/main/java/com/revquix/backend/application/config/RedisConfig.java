@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -38,12 +38,18 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.revquix.backend.application.listener.NearCacheInvalidationListener;
+import com.revquix.backend.application.listener.RoleCatalogRefreshListener;
+import com.revquix.backend.application.properties.CacheProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -67,6 +73,40 @@ public class RedisConfig {
         return template;
     }
 
+    /**
+     * Raw byte values for {@code CacheService}; encoding is done by {@code CacheCodecRegistry}.
+     */
+    @Bean
+    public RedisTemplate<String, byte[]> binaryRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.setEnableDefaultSerializer(false);
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            NearCacheInvalidationListener nearCacheInvalidationListener,
+            RoleCatalogRefreshListener roleCatalogRefreshListener,
+            CacheProperties cacheProperties
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                nearCacheInvalidationListener,
+                new ChannelTopic(cacheProperties.getNearCache().getInvalidationChannel())
+        );
+        container.addMessageListener(
+                roleCatalogRefreshListener,
+                new ChannelTopic(cacheProperties.getRoleCatalog().getRefreshChannel())
+        );
+        return container;
+    }
+
     @Bean
     @Primary
     public ObjectMapper objectMapper() {
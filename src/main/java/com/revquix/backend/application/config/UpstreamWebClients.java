@@ -0,0 +1,124 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.application.config;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: UpstreamWebClients
+ */
+
+import com.revquix.backend.application.exception.payload.UpstreamBulkheadFullException;
+import com.revquix.backend.application.properties.HttpClientProperties;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One {@link WebClient} per upstream, each with its own connection pool, timeouts and concurrency
+ * bulkhead, so a slow upstream can only exhaust its own connections.
+ */
+@Slf4j
+public class UpstreamWebClients implements DisposableBean {
+
+    private final HttpClientProperties httpClientProperties;
+    private final Map<String, WebClient> clients = new ConcurrentHashMap<>();
+    private final Map<String, ConnectionProvider> connectionProviders = new ConcurrentHashMap<>();
+
+    public UpstreamWebClients(HttpClientProperties httpClientProperties) {
+        this.httpClientProperties = httpClientProperties;
+    }
+
+    public WebClient get(String upstream) {
+        return clients.computeIfAbsent(upstream, this::create);
+    }
+
+    private WebClient create(String upstream) {
+        HttpClientProperties.Upstream settings = httpClientProperties.getUpstreams()
+                .getOrDefault(upstream, new HttpClientProperties.Upstream());
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("revquix-" + upstream)
+                .maxConnections(settings.getMaxConnections())
+                .pendingAcquireMaxCount(settings.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(Duration.ofMillis(settings.getPendingAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofMillis(settings.getMaxIdleTimeMs()))
+                .maxLifeTime(Duration.ofMillis(settings.getMaxLifeTimeMs()))
+                .evictInBackground(Duration.ofMillis(settings.getMaxIdleTimeMs()))
+                .metrics(true)
+                .build();
+        connectionProviders.put(upstream, connectionProvider);
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) settings.getConnectTimeoutMs())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(Duration.ofMillis(settings.getResponseTimeoutMs()))
+                .doOnConnected(connection -> connection
+                        .addHandlerLast(new ReadTimeoutHandler(settings.getReadTimeoutMs(), TimeUnit.MILLISECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(settings.getWriteTimeoutMs(), TimeUnit.MILLISECONDS)));
+        log.info("{}::create -> Created client for upstream '{}' with maxConnections: {}, maxConcurrentRequests: {}",
+                getClass().getSimpleName(), upstream, settings.getMaxConnections(), settings.getMaxConcurrentRequests());
+        return WebClient
+                .builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(clientCodecConfigurer -> clientCodecConfigurer.defaultCodecs().maxInMemorySize(settings.getMaxInMemorySize()))
+                .filter(bulkhead(upstream, settings.getMaxConcurrentRequests()))
+                .build();
+    }
+
+    /**
+     * Holds a slot from subscription until the response status and headers arrive (or the exchange
+     * fails); body reads after that are bounded by the connection pool.
+     */
+    private static ExchangeFilterFunction bulkhead(String upstream, int maxConcurrentRequests) {
+        Semaphore permits = new Semaphore(maxConcurrentRequests);
+        return (request, next) -> Mono.defer(() -> {
+            if (!permits.tryAcquire()) {
+                return Mono.error(new UpstreamBulkheadFullException(upstream));
+            }
+            return next.exchange(request).doFinally(signalType -> permits.release());
+        });
+    }
+
+    @Override
+    public void destroy() {
+        connectionProviders.values().forEach(connectionProvider -> connectionProvider.disposeLater().block(Duration.ofSeconds(5)));
+    }
+}
@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -37,6 +37,6 @@ package com.revquix.backend.application.constants;
 public class CacheConstants {
 
     public static final String USER_BY_ID_PREFIX = "userAuth:userId";
-    public static final String ROLE_BY_ID_PREFIX = "role:roleId";
     public static final String REFRESH_TOKEN_BY_ID_PREFIX = "refreshToken:jti";
+    public static final String OTP_ATTEMPTS_PREFIX = "otpAttempts:id";
 }
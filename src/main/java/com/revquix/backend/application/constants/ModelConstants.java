@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -46,4 +46,5 @@ public class ModelConstants {
     public static final String OTP_ENTITY_TABLE = "otp_entity";
     public static final String REFRESH_TOKEN_TABLE = "refresh_token";
     public static final String MFA = "mfa";
+    public static final String MAIL_OUTBOX_TABLE = "mail_outbox";
 }
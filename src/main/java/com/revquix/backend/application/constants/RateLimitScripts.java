@@ -0,0 +1,229 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.application.constants;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: RateLimitScripts
+ */
+
+/*
+ * Every script takes the block key as KEYS[1] and one key per window after it.
+ * ARGV holds the check block flag, the block seconds, the number of requests to record and the
+ * reconcile flag, then a (window seconds, limit) pair per window key.
+ * All of them return {status, window index, remaining, total, reset millis} where status is
+ * 1 allowed, 0 denied and -1 blocked. A regular check only records the request once every window
+ * has room. A reconcile call reports requests that were already admitted locally, so it always
+ * records the full cost and reports a deny or block on top of that.
+ */
+public class RateLimitScripts {
+
+    private static final String PROLOGUE = """
+        local time = redis.call('TIME')
+        local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+        local check_block = tonumber(ARGV[1])
+        local block_seconds = tonumber(ARGV[2])
+        local cost = tonumber(ARGV[3])
+        local reconcile = tonumber(ARGV[4])
+        local window_count = #KEYS - 1
+
+        local block_ttl = -2
+        if check_block == 1 then
+            block_ttl = redis.call('TTL', KEYS[1])
+            if block_ttl ~= -2 and reconcile == 0 then
+                return {-1, 0, 0, 0, math.max(block_ttl, 0) * 1000}
+            end
+        end
+
+        local function deny(index, total, reset_ms)
+            if block_seconds > 0 then
+                redis.call('SET', KEYS[1], 'blocked', 'EX', block_seconds)
+            end
+            return {0, index, 0, total, reset_ms}
+        end
+
+        local function verdict(result, denied)
+            if block_ttl ~= -2 then
+                return {-1, 0, 0, 0, math.max(block_ttl, 0) * 1000}
+            end
+            if denied then
+                return deny(denied[1], denied[2], denied[3])
+            end
+            return result
+        end
+
+        """;
+
+    /*
+     * Sorted set per window scored by second, kept for compatibility with existing keys. Members are the
+     * server time in microseconds plus a per-key sequence, so requests landing in the same tick are all counted.
+     */
+    public static final String SLIDING_LOG = PROLOGUE + """
+        local current_time = math.floor(now / 1000)
+        local now_micros = time[1] .. string.format('%06d', tonumber(time[2]))
+        local counts = {}
+        local denied = nil
+        for i = 1, window_count do
+            local key = KEYS[i + 1]
+            local window = tonumber(ARGV[3 + i * 2])
+            local limit = tonumber(ARGV[4 + i * 2])
+
+            redis.call('ZREMRANGEBYSCORE', key, 0, current_time - window)
+            local current_requests = redis.call('ZCARD', key)
+            if current_requests + cost > limit and denied == nil then
+                if reconcile == 0 then
+                    return deny(i, current_requests, window * 1000)
+                end
+                denied = {i, current_requests + cost, window * 1000}
+            end
+            counts[i] = current_requests
+        end
+
+        local result = {1, 0, 0, 0, 0}
+        for i = 1, window_count do
+            local key = KEYS[i + 1]
+            local window = tonumber(ARGV[3 + i * 2])
+            local limit = tonumber(ARGV[4 + i * 2])
+            local sequence_key = key .. ':seq'
+            local sequence = redis.call('INCRBY', sequence_key, cost)
+            for j = 1, cost do
+                redis.call('ZADD', key, current_time, now_micros .. ':' .. (sequence - cost + j))
+            end
+            redis.call('EXPIRE', key, window)
+            redis.call('EXPIRE', sequence_key, window)
+
+            local remaining = math.max(limit - counts[i] - cost, 0)
+            if result[2] == 0 or remaining < result[3] then
+                result = {1, i, remaining, counts[i] + cost, window * 1000}
+            end
+        end
+        return verdict(result, denied)
+        """;
+
+    /*
+     * Hash per window holding the current bucket index with the current and previous bucket counts.
+     * The previous bucket is weighted by how much of it still overlaps the sliding window.
+     */
+    public static final String SLIDING_WINDOW_COUNTER = PROLOGUE + """
+        local states = {}
+        local denied = nil
+        for i = 1, window_count do
+            local key = KEYS[i + 1]
+            local window_ms = tonumber(ARGV[3 + i * 2]) * 1000
+            local limit = tonumber(ARGV[4 + i * 2])
+            local bucket = math.floor(now / window_ms)
+
+            local stored = redis.call('HMGET', key, 'b', 'c', 'p')
+            local stored_bucket = tonumber(stored[1])
+            local current = tonumber(stored[2]) or 0
+            local previous = tonumber(stored[3]) or 0
+            if stored_bucket == nil then
+                current = 0
+                previous = 0
+            elseif bucket == stored_bucket + 1 then
+                previous = current
+                current = 0
+            elseif bucket > stored_bucket + 1 then
+                previous = 0
+                current = 0
+            else
+                bucket = stored_bucket
+            end
+
+            local elapsed = now % window_ms
+            local estimated = math.floor(previous * (window_ms - elapsed) / window_ms) + current
+            local reset_ms = window_ms - elapsed
+            if estimated + cost > limit and denied == nil then
+                if reconcile == 0 then
+                    return deny(i, estimated, reset_ms)
+                end
+                denied = {i, estimated + cost, reset_ms}
+            end
+            states[i] = {bucket, current, previous, estimated, limit, window_ms, reset_ms}
+        end
+
+        local result = {1, 0, 0, 0, 0}
+        for i = 1, window_count do
+            local key = KEYS[i + 1]
+            local state = states[i]
+            redis.call('HSET', key, 'b', state[1], 'c', state[2] + cost, 'p', state[3])
+            redis.call('PEXPIRE', key, state[6] * 2)
+
+            local remaining = math.max(state[5] - state[4] - cost, 0)
+            if result[2] == 0 or remaining < result[3] then
+                result = {1, i, remaining, state[4] + cost, state[7]}
+            end
+        end
+        return verdict(result, denied)
+        """;
+
+    /*
+     * Generic cell rate algorithm, a single theoretical arrival time in milliseconds per window.
+     */
+    public static final String GCRA = PROLOGUE + """
+        local states = {}
+        local denied = nil
+        for i = 1, window_count do
+            local key = KEYS[i + 1]
+            local window_ms = tonumber(ARGV[3 + i * 2]) * 1000
+            local limit = tonumber(ARGV[4 + i * 2])
+            local interval = window_ms / limit
+
+            local tat = tonumber(redis.call('GET', key)) or now
+            if tat < now then
+                tat = now
+            end
+            local new_tat = tat + interval * cost
+            local allow_at = new_tat - window_ms
+            if now < allow_at and denied == nil then
+                if reconcile == 0 then
+                    return deny(i, limit, math.ceil(allow_at - now))
+                end
+                denied = {i, limit, math.ceil(allow_at - now)}
+            end
+            states[i] = {new_tat, limit, interval}
+        end
+
+        local result = {1, 0, 0, 0, 0}
+        for i = 1, window_count do
+            local key = KEYS[i + 1]
+            local window_ms = tonumber(ARGV[3 + i * 2]) * 1000
+            local state = states[i]
+            local ttl = math.max(math.ceil(state[1] - now), 1)
+            redis.call('SET', key, string.format('%.0f', state[1]), 'PX', ttl)
+
+            local remaining = math.max(math.floor((window_ms - (state[1] - now)) / state[3]), 0)
+            if result[2] == 0 or remaining < result[3] then
+                result = {1, i, remaining, state[2] - remaining, ttl}
+            end
+        end
+        return verdict(result, denied)
+        """;
+}
@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -54,5 +54,8 @@ public class ServiceConstants {
     public static final String DEFAULT_BROWSER = "springBrowser";
     public static final String DEFAULT_OS = "springOs";
     public static final String MFA_TOKEN_TYPE = "mfa";
+    public static final String DECODED_JWT = "revquix.decodedJwt";
     public static final String TEMPLATE_DATE_FORMAT = "yyyy-MM-dd HH:mm:ss 'UTC'";
+    public static final String ZEPTO_MAIL_UPSTREAM = "zepto-mail";
+    public static final String IP_API_UPSTREAM = "ip-api";
 }
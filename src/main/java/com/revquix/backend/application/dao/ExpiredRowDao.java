@@ -0,0 +1,105 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.application.dao;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: ExpiredRowDao
+ */
+
+import com.revquix.backend.application.enums.SweepTarget;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Keyset-driven batch deletes for {@link SweepTarget}s. Each batch locks at most {@code limit}
+ * rows with {@code SKIP LOCKED}, so it never waits on rows a live request is touching, and the
+ * returned cursor lets the next batch start past the index entries already purged.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExpiredRowDao {
+
+    private static final String PURGE_TEMPLATE = """
+            WITH doomed AS (
+                SELECT %2$s FROM %1$s
+                WHERE %3$s < ? %5$s %4$s
+                ORDER BY %3$s
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ), purged AS (
+                DELETE FROM %1$s t USING doomed d WHERE t.%2$s = d.%2$s RETURNING t.%3$s
+            )
+            SELECT count(*), max(%3$s) FROM purged
+            """;
+
+    private static final Map<SweepTarget, String> FIRST_BATCH_SQL = new EnumMap<>(SweepTarget.class);
+    private static final Map<SweepTarget, String> NEXT_BATCH_SQL = new EnumMap<>(SweepTarget.class);
+
+    static {
+        for (SweepTarget target : SweepTarget.values()) {
+            FIRST_BATCH_SQL.put(target, render(target, ""));
+            NEXT_BATCH_SQL.put(target, render(target, "AND " + target.getKeyColumn() + " >= ?"));
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Deletes up to {@code limit} rows whose key is below {@code cutoff}, starting at
+     * {@code cursor} when one is given. Must run inside a transaction.
+     */
+    public Batch purgeBatch(SweepTarget target, Object cutoff, Object cursor, int limit) {
+        Batch batch = cursor == null
+                ? jdbcTemplate.queryForObject(FIRST_BATCH_SQL.get(target), (rs, rowNum) -> new Batch(rs.getInt(1), rs.getObject(2)), cutoff, limit)
+                : jdbcTemplate.queryForObject(NEXT_BATCH_SQL.get(target), (rs, rowNum) -> new Batch(rs.getInt(1), rs.getObject(2)), cutoff, cursor, limit);
+        log.debug("{}::purgeBatch -> Purged {} rows from {}", getClass().getSimpleName(), batch == null ? 0 : batch.purged(), target.getTable());
+        return batch == null ? new Batch(0, null) : batch;
+    }
+
+    private static String render(SweepTarget target, String cursorPredicate) {
+        return PURGE_TEMPLATE.formatted(
+                target.getTable(),
+                target.getIdColumn(),
+                target.getKeyColumn(),
+                target.getExtraPredicate(),
+                cursorPredicate
+        );
+    }
+
+    public record Batch(int purged, Object lastKey) {
+    }
+}
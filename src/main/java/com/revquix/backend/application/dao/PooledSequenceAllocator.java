@@ -0,0 +1,138 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.application.dao;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: PooledSequenceAllocator
+ */
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pooled-lo id allocator. Each {@code nextval} reserves {@code [value, value + blockSize)}; ids are then
+ * handed out from the reserved block with a single atomic increment, and only the thread that finds the
+ * block exhausted goes back to the database.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PooledSequenceAllocator {
+
+    private final SequenceGeneratorDao sequenceGeneratorDao;
+    private final ConcurrentMap<String, SequencePool> pools = new ConcurrentHashMap<>();
+
+    public long next(String sequence, int allocationSize) {
+        return pools.computeIfAbsent(sequence, name -> new SequencePool(name, allocationSize)).next();
+    }
+
+    private final class SequencePool {
+
+        private final String sequence;
+        private final int allocationSize;
+        private final ReentrantLock refillLock = new ReentrantLock();
+        private final AtomicReference<Block> current = new AtomicReference<>(Block.EXHAUSTED);
+        private volatile long blockSize = -1;
+
+        private SequencePool(String sequence, int allocationSize) {
+            this.sequence = sequence;
+            this.allocationSize = Math.max(1, allocationSize);
+        }
+
+        long next() {
+            while (true) {
+                Block block = current.get();
+                long value = block.next.getAndIncrement();
+                if (value < block.end) {
+                    return value;
+                }
+                refill(block);
+            }
+        }
+
+        private void refill(Block exhausted) {
+            refillLock.lock();
+            try {
+                if (current.get() != exhausted) {
+                    return;
+                }
+                long start = sequenceGeneratorDao.getNextSequenceValue(sequence);
+                current.set(new Block(start, start + resolveBlockSize()));
+            } finally {
+                refillLock.unlock();
+            }
+        }
+
+        /**
+         * Never hands out more ids than the sequence actually skips, so a mismatched migration costs
+         * round trips rather than duplicate ids.
+         */
+        private long resolveBlockSize() {
+            if (blockSize > 0) {
+                return blockSize;
+            }
+            long resolved = 1;
+            try {
+                long increment = sequenceGeneratorDao.getSequenceIncrement(sequence);
+                resolved = Math.max(1, Math.min(allocationSize, increment));
+                if (increment != allocationSize) {
+                    log.warn("{}::resolveBlockSize -> Sequence {} increments by {} but allocationSize is {}, using blocks of {}",
+                            PooledSequenceAllocator.class.getSimpleName(), sequence, increment, allocationSize, resolved);
+                }
+            } catch (RuntimeException exception) {
+                log.warn("{}::resolveBlockSize -> Unable to read increment of {}, allocating one id per nextval: {}",
+                        PooledSequenceAllocator.class.getSimpleName(), sequence, exception.getMessage());
+            }
+            blockSize = resolved;
+            return resolved;
+        }
+    }
+
+    private static final class Block {
+
+        private static final Block EXHAUSTED = new Block(0, 0);
+
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -54,4 +54,12 @@ public class SequenceGeneratorDao {
         log.info("SequenceGeneratorDao::getNextSequenceValue -> Sequence Generated for {} with value {} ", sequenceName, nextSequence);
         return nextSequence;
     }
+
+    public Long getSequenceIncrement(String sequenceName) {
+        log.info("SequenceGeneratorDao::getSequenceIncrement -> Reading increment for {}", sequenceName);
+        return ((Number) entityManager
+                .createNativeQuery("SELECT seqincrement FROM pg_sequence WHERE seqrelid = to_regclass(:sequenceName)")
+                .setParameter("sequenceName", sequenceName)
+                .getSingleResult()).longValue();
+    }
 }
@@ -0,0 +1,77 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.application.enums;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: SweepTarget
+ */
+
+import com.revquix.backend.application.constants.ModelConstants;
+
+/**
+ * Tables the retention sweeper purges. Each target is walked in {@code keyColumn} order, which
+ * must be backed by an index for the keyset scan to stay cheap.
+ */
+public enum SweepTarget {
+
+    REFRESH_TOKEN(ModelConstants.REFRESH_TOKEN_TABLE, "jti", "expires_in", ""),
+    MFA(ModelConstants.MFA, "mfa_id", "expires_in", ""),
+    OTP_ENTITY(ModelConstants.OTP_ENTITY_TABLE, "otp_id", "expiry_date", ""),
+    MAIL_OUTBOX(ModelConstants.MAIL_OUTBOX_TABLE, "mail_id", "date_updated", "AND status IN ('SENT', 'DEAD')");
+
+    private final String table;
+    private final String idColumn;
+    private final String keyColumn;
+    private final String extraPredicate;
+
+    SweepTarget(String table, String idColumn, String keyColumn, String extraPredicate) {
+        this.table = ModelConstants.AUTH_SCHEMA + "." + table;
+        this.idColumn = idColumn;
+        this.keyColumn = keyColumn;
+        this.extraPredicate = extraPredicate;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public String getIdColumn() {
+        return idColumn;
+    }
+
+    public String getKeyColumn() {
+        return keyColumn;
+    }
+
+    public String getExtraPredicate() {
+        return extraPredicate;
+    }
+}
@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -109,7 +109,13 @@ public enum ErrorData {
     MFA_NOT_ENABLED("DE-69", "MFA is not enabled for this user. Please login again"),
     MFA_EXPIRED("DE-70", "The MFA has been expired. Please login again"),
     INVALID_REMOTE_ADDRESS_MFA("DE-71", "Remote address does not match with the one present in MFA token, please login again"),
-    INVALID_MAIL_DOMAIN("DE-72", "The email domain is not allowed. Please use an approved email domain to register or login.");
+    INVALID_MAIL_DOMAIN("DE-72", "The email domain is not allowed. Please use an approved email domain to register or login."),
+    FAILED_TO_QUEUE_MAIL("IE-73", "Failed to queue email, please try again later or contact support team"),
+    TOO_MANY_OTP_ATTEMPTS("DE-74", "Too many incorrect OTP attempts. Please request a new OTP"),
+    PASSWORD_HASHING_BUSY("IE-75", "We are receiving too many sign-in requests right now. Please try again in a few seconds"),
+    OTP_PEPPER_NOT_CONFIGURED("IE-76", "OTP pepper is not configured, set OTP_PEPPER to the same value on every instance"),
+    MAIL_OUTBOX_KEY_NOT_CONFIGURED("IE-77", "Mail outbox payload key is missing or invalid, set MAIL_OUTBOX_PAYLOAD_KEY to a base64 AES key"),
+    FAILED_TO_READ_MAIL_PAYLOAD("IE-78", "Failed to read the queued email, it cannot be sent");
 
     private final String code;
     private final String message;
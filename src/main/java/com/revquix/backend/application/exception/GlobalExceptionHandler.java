@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -37,9 +37,11 @@ package com.revquix.backend.application.exception;
 import com.revquix.backend.application.constants.ServiceConstants;
 import com.revquix.backend.application.exception.payload.AuthenticationException;
 import com.revquix.backend.application.exception.payload.BadRequestException;
+import com.revquix.backend.application.exception.payload.ServiceUnavailableException;
 import com.revquix.backend.application.payload.ExceptionResponse;
 import com.revquix.backend.application.utils.ErrorResponseGeneratorUtil;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authorization.AuthorizationDeniedException;
@@ -70,6 +72,16 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ExceptionResponse> serviceUnavailableException(ServiceUnavailableException exception) {
+        log.error("ServiceUnavailableException Occurred >> {}", exception.getMessage());
+        ExceptionResponse exceptionResponse = ErrorResponseGeneratorUtil.generate(exception);
+        return ResponseEntity
+                .status(exception.getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(exceptionResponse);
+    }
+
     @ExceptionHandler(AuthorizationDeniedException.class)
     public ResponseEntity<ExceptionResponse> authorizationDeniedException(AuthorizationDeniedException exception) {
         log.error("AuthorizationDeniedException Occurred >> {}", exception.toString());
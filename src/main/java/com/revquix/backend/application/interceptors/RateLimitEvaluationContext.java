@@ -0,0 +1,132 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.application.interceptors;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: RateLimitEvaluationContext
+ */
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.expression.BeanResolver;
+import org.springframework.expression.ConstructorResolver;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.MethodResolver;
+import org.springframework.expression.OperatorOverloader;
+import org.springframework.expression.PropertyAccessor;
+import org.springframework.expression.TypeComparator;
+import org.springframework.expression.TypeConverter;
+import org.springframework.expression.TypeLocator;
+import org.springframework.expression.TypedValue;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.List;
+
+/**
+ * Per request view over a shared, read-only evaluation context. Resolvers and accessors come from the
+ * shared delegate, only the request variables live here, so building one costs a single small object.
+ */
+public class RateLimitEvaluationContext implements EvaluationContext {
+
+    private final EvaluationContext delegate;
+    private final HttpServletRequest request;
+    private final HandlerMethod method;
+    private final String ip;
+    private final boolean isAdmin;
+
+    public RateLimitEvaluationContext(EvaluationContext delegate, HttpServletRequest request, HandlerMethod method, String ip, boolean isAdmin) {
+        this.delegate = delegate;
+        this.request = request;
+        this.method = method;
+        this.ip = ip;
+        this.isAdmin = isAdmin;
+    }
+
+    @Override
+    public Object lookupVariable(String name) {
+        return switch (name) {
+            case "request" -> request;
+            case "method" -> method;
+            case "ip" -> ip;
+            case "isAdmin" -> isAdmin;
+            default -> null;
+        };
+    }
+
+    @Override
+    public void setVariable(String name, Object value) {
+        throw new UnsupportedOperationException("Rate limit expressions can not assign variables");
+    }
+
+    @Override
+    public TypedValue getRootObject() {
+        return delegate.getRootObject();
+    }
+
+    @Override
+    public List<PropertyAccessor> getPropertyAccessors() {
+        return delegate.getPropertyAccessors();
+    }
+
+    @Override
+    public List<ConstructorResolver> getConstructorResolvers() {
+        return delegate.getConstructorResolvers();
+    }
+
+    @Override
+    public List<MethodResolver> getMethodResolvers() {
+        return delegate.getMethodResolvers();
+    }
+
+    @Override
+    public BeanResolver getBeanResolver() {
+        return delegate.getBeanResolver();
+    }
+
+    @Override
+    public TypeLocator getTypeLocator() {
+        return delegate.getTypeLocator();
+    }
+
+    @Override
+    public TypeConverter getTypeConverter() {
+        return delegate.getTypeConverter();
+    }
+
+    @Override
+    public TypeComparator getTypeComparator() {
+        return delegate.getTypeComparator();
+    }
+
+    @Override
+    public OperatorOverloader getOperatorOverloader() {
+        return delegate.getOperatorOverloader();
+    }
+}
@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -34,22 +34,17 @@ package com.revquix.backend.application.interceptors;
   File: RateLimitInterceptor
  */
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.revquix.backend.application.annotation.RateLimit;
 import com.revquix.backend.application.exception.ErrorData;
-import com.revquix.backend.application.payload.ExceptionResponse;
 import com.revquix.backend.application.payload.RateLimitResult;
 import com.revquix.backend.application.service.RateLimitService;
-import com.revquix.backend.application.utils.MdcUtils;
+import com.revquix.backend.application.utils.ErrorResponseWriter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.expression.ExpressionParser;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.method.HandlerMethod;
@@ -64,8 +59,7 @@ import java.time.format.DateTimeFormatter;
 public class RateLimitInterceptor implements HandlerInterceptor {
 
     private final RateLimitService rateLimitService;
-    private final ObjectMapper objectMapper;
-    private final ExpressionParser expressionParser = new SpelExpressionParser();
+    private final RateLimitMetadataRegistry rateLimitMetadataRegistry;
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
@@ -75,21 +69,13 @@ public class RateLimitInterceptor implements HandlerInterceptor {
         }
 
         HandlerMethod handlerMethod = (HandlerMethod) handler;
-        RateLimit rateLimit = getRateLimitAnnotation(handlerMethod);
+        RateLimitMetadataRegistry.RateLimitMetadata metadata = rateLimitMetadataRegistry.get(handlerMethod);
 
-        if (rateLimit == null) {
+        if (!metadata.hasRateLimit()) {
             return applyDefaultRateLimit(request, response);
         }
 
-        return applyCustomRateLimit(request, response, rateLimit, handlerMethod);
-    }
-
-    private RateLimit getRateLimitAnnotation(HandlerMethod handlerMethod) {
-        RateLimit methodRateLimit = handlerMethod.getMethodAnnotation(RateLimit.class);
-        if (methodRateLimit != null) {
-            return methodRateLimit;
-        }
-        return handlerMethod.getBeanType().getAnnotation(RateLimit.class);
+        return applyCustomRateLimit(request, response, metadata, handlerMethod);
     }
 
     private boolean applyDefaultRateLimit(HttpServletRequest request, HttpServletResponse response) throws IOException {
@@ -106,96 +92,66 @@ public class RateLimitInterceptor implements HandlerInterceptor {
     }
 
     private boolean applyCustomRateLimit(HttpServletRequest request, HttpServletResponse response,
-                                         RateLimit rateLimit, HandlerMethod handlerMethod) throws IOException {
+                                         RateLimitMetadataRegistry.RateLimitMetadata metadata, HandlerMethod handlerMethod) throws IOException {
+
+        String ipAddress = getClientIpAddress(request);
+        EvaluationContext context = null;
+        if (metadata.getSkipConditionExpression() != null || metadata.getIdentifierExpression() != null) {
+            context = rateLimitMetadataRegistry.createEvaluationContext(request, handlerMethod, ipAddress);
+        }
 
-        if (shouldSkipRateLimit(request, rateLimit, handlerMethod)) {
+        if (shouldSkipRateLimit(metadata, context)) {
             log.debug("Rate limit skipped for endpoint: {}", handlerMethod.getMethod().getName());
             return true;
         }
 
-        String ipAddress = getIdentifier(request, rateLimit, handlerMethod);
+        String identifier = getIdentifier(metadata, context, ipAddress);
+        RateLimitResult result = rateLimitService.checkRateLimits(identifier, metadata.getWindows());
 
-        // Check minute limit first
-        RateLimitResult minuteResult = rateLimitService.checkRateLimit(ipAddress, rateLimit.requestsPerMinute(), 60);
-
-        if (!minuteResult.isAllowed()) {
-            handleRateLimitExceeded(response, minuteResult, rateLimit.message());
+        if (!result.isAllowed()) {
+            handleRateLimitExceeded(response, result, metadata.getRateLimit().message());
             return false;
         }
 
-        // Also check hour limit
-        RateLimitResult hourResult = rateLimitService.checkRateLimit(ipAddress, rateLimit.requestsPerHour(), 3600);
-        if (!hourResult.isAllowed()) {
-            handleRateLimitExceeded(response, hourResult, rateLimit.message());
-            return false;
-        }
-
-        // Use the more restrictive result for headers (minute limit is typically more restrictive)
-        addRateLimitHeaders(response, minuteResult);
+        addRateLimitHeaders(response, result);
         return true;
     }
 
-    private String getIdentifier(HttpServletRequest request, RateLimit rateLimit, HandlerMethod handlerMethod) {
-        if (StringUtils.hasText(rateLimit.identifier())) {
-            return evaluateSpelExpression(rateLimit.identifier(), request, handlerMethod);
+    private String getIdentifier(RateLimitMetadataRegistry.RateLimitMetadata metadata, EvaluationContext context, String ipAddress) {
+        Expression expression = metadata.getIdentifierExpression();
+        if (expression == null) {
+            // Always return IP address since we only support IP-based rate limiting
+            return ipAddress;
         }
 
-        // Always return IP address since we only support IP-based rate limiting
-        return getClientIpAddress(request);
-    }
-
-    private String evaluateSpelExpression(String expression, HttpServletRequest request, HandlerMethod handlerMethod) {
         try {
-            StandardEvaluationContext context = new StandardEvaluationContext();
-            context.setVariable("request", request);
-            context.setVariable("method", handlerMethod);
-            context.setVariable("ip", getClientIpAddress(request));
-
-            return expressionParser.parseExpression(expression).getValue(context, String.class);
+            return expression.getValue(context, String.class);
         } catch (Exception e) {
-            log.error("Error evaluating SpEL expression: {}", expression, e);
-            return getClientIpAddress(request);
+            log.error("Error evaluating SpEL expression: {}", expression.getExpressionString(), e);
+            return ipAddress;
         }
     }
 
-    private boolean shouldSkipRateLimit(HttpServletRequest request, RateLimit rateLimit, HandlerMethod handlerMethod) {
-        if (!StringUtils.hasText(rateLimit.skipCondition())) {
+    private boolean shouldSkipRateLimit(RateLimitMetadataRegistry.RateLimitMetadata metadata, EvaluationContext context) {
+        Expression expression = metadata.getSkipConditionExpression();
+        if (expression == null) {
             return false;
         }
 
         try {
-            StandardEvaluationContext context = new StandardEvaluationContext();
-            context.setVariable("request", request);
-            context.setVariable("method", handlerMethod);
-            context.setVariable("ip", getClientIpAddress(request));
-
-            // Simple admin check via header
-            boolean isAdmin = "true".equals(request.getHeader("X-Admin"));
-            context.setVariable("isAdmin", isAdmin);
-
-            Boolean result = expressionParser.parseExpression(rateLimit.skipCondition()).getValue(context, Boolean.class);
+            Boolean result = expression.getValue(context, Boolean.class);
             return Boolean.TRUE.equals(result);
         } catch (Exception e) {
-            log.error("Error evaluating skip condition: {}", rateLimit.skipCondition(), e);
+            log.error("Error evaluating skip condition: {}", expression.getExpressionString(), e);
             return false;
         }
     }
 
     private void handleRateLimitExceeded(HttpServletResponse response, RateLimitResult result, String message) throws IOException {
-        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-
-        ExceptionResponse exceptionResponse = ExceptionResponse
-                .builder()
-                .message(message)
-                .code(ErrorData.RATE_LIMIT_EXCEEDED.getCode())
-                .breadcrumbId(MdcUtils.getBreadcrumbId())
-                .localizedMessage(String.format("Rate limit exceeded. for type %s, remaining requests %s. Try again at %s", result.getRateLimitType(), result.getRemainingRequests(), result.getResetTime().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)))
-                .errorType("Data Error")
-                .httpStatus(HttpStatus.TOO_MANY_REQUESTS.name())
-                .build();
-
-        response.getWriter().write(objectMapper.writeValueAsString(exceptionResponse));
+        String localizedMessage = "Rate limit exceeded. for type " + result.getRateLimitType()
+                + ", remaining requests " + result.getRemainingRequests()
+                + ". Try again at " + result.getResetTime().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        ErrorResponseWriter.writeDataError(response, HttpStatus.TOO_MANY_REQUESTS, ErrorData.RATE_LIMIT_EXCEEDED, message, localizedMessage);
         log.warn("Rate limit exceeded: {}", message);
     }
 
@@ -0,0 +1,149 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.application.interceptors;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: RateLimitMetadataRegistry
+ */
+
+import com.revquix.backend.application.annotation.RateLimit;
+import com.revquix.backend.application.payload.RateLimitWindow;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the {@link RateLimit} of every handler method once. Annotation lookup and SpEL parsing
+ * happen when the registry is built after startup, the interceptor only reads the result.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitMetadataRegistry implements SmartInitializingSingleton {
+
+    private static final String HANDLER_MAPPING_BEAN = "requestMappingHandlerMapping";
+
+    private final ApplicationContext applicationContext;
+    private final SpelExpressionParser expressionParser = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.MIXED, RateLimitMetadataRegistry.class.getClassLoader())
+    );
+    private final EvaluationContext sharedEvaluationContext = new StandardEvaluationContext();
+    private final Map<Method, RateLimitMetadata> registry = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!applicationContext.containsBean(HANDLER_MAPPING_BEAN)) {
+            return;
+        }
+        RequestMappingHandlerMapping handlerMapping = applicationContext.getBean(HANDLER_MAPPING_BEAN, RequestMappingHandlerMapping.class);
+        handlerMapping.getHandlerMethods().values().forEach(this::get);
+        log.info("{}::afterSingletonsInstantiated -> Registered rate limit metadata for {} handler methods",
+                getClass().getSimpleName(), registry.size());
+    }
+
+    /**
+     * Metadata of the handler method, resolved on first sight for handlers registered after startup
+     */
+    public RateLimitMetadata get(HandlerMethod handlerMethod) {
+        return registry.computeIfAbsent(handlerMethod.getMethod(), method -> resolve(handlerMethod));
+    }
+
+    public EvaluationContext createEvaluationContext(HttpServletRequest request, HandlerMethod handlerMethod, String ip) {
+        // Simple admin check via header
+        boolean isAdmin = "true".equals(request.getHeader("X-Admin"));
+        return new RateLimitEvaluationContext(sharedEvaluationContext, request, handlerMethod, ip, isAdmin);
+    }
+
+    private RateLimitMetadata resolve(HandlerMethod handlerMethod) {
+        RateLimit rateLimit = handlerMethod.getMethodAnnotation(RateLimit.class);
+        if (rateLimit == null) {
+            rateLimit = handlerMethod.getBeanType().getAnnotation(RateLimit.class);
+        }
+        if (rateLimit == null) {
+            return RateLimitMetadata.NONE;
+        }
+        return new RateLimitMetadata(
+                rateLimit,
+                List.of(
+                        new RateLimitWindow(rateLimit.requestsPerMinute(), 60),
+                        new RateLimitWindow(rateLimit.requestsPerHour(), 3600)
+                ),
+                parse(rateLimit.identifier()),
+                parse(rateLimit.skipCondition())
+        );
+    }
+
+    private Expression parse(String expression) {
+        if (!StringUtils.hasText(expression)) {
+            return null;
+        }
+        try {
+            return expressionParser.parseExpression(expression);
+        } catch (Exception e) {
+            log.error("Error parsing SpEL expression: {}", expression, e);
+            return null;
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class RateLimitMetadata {
+
+        private static final RateLimitMetadata NONE = new RateLimitMetadata(null, List.of(), null, null);
+
+        private final RateLimit rateLimit;
+        private final List<RateLimitWindow> windows;
+        private final Expression identifierExpression;
+        private final Expression skipConditionExpression;
+
+        public boolean hasRateLimit() {
+            return rateLimit != null;
+        }
+    }
+}
@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -25,43 +25,35 @@
  * <p>
  * For inquiries regarding licensing, please contact: support@Revquix.com.
  */
-package com.revquix.backend.auth.cache;
+package com.revquix.backend.application.listener;
 
 /*
   Developer: Rohit Parihar
   Project: revquix-backend
   GitHub: github.com/rohit-zip
-  File: RleCacheProvider
+  File: RoleCatalogRefreshListener
  */
 
-import com.revquix.backend.application.constants.CacheConstants;
-import com.revquix.backend.application.service.CacheService;
-import com.revquix.backend.auth.dao.repository.RoleRepository;
-import com.revquix.backend.auth.model.Role;
+import com.revquix.backend.auth.cache.RoleCatalog;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
-
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class RoleCache {
+public class RoleCatalogRefreshListener implements MessageListener {
 
-    private final CacheService cacheService;
-    private final RoleRepository roleRepository;
+    private final RoleCatalog roleCatalog;
 
-    public Optional<Role> findById(String id) {
-        log.info("{}::getRole -> Fetching role details for id: {}", this.getClass().getSimpleName(), id);
-        String key = cacheService.generateKey(CacheConstants.ROLE_BY_ID_PREFIX, id);
-        Role role = cacheService.get(key, Role.class);
-        if (role != null) {
-            return Optional.of(role);
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            roleCatalog.refresh();
+        } catch (Exception exception) {
+            log.warn("{}::onMessage -> Role catalog refresh failed: {}", getClass().getSimpleName(), exception.getMessage());
         }
-        return roleRepository.findById(id).map(r -> {
-            cacheService.put(key, r);
-            return r;
-        });
     }
 }
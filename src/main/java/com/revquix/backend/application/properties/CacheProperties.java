@@ -0,0 +1,103 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.application.properties;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: CacheProperties
+ */
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "cache")
+@Getter
+@Setter
+public class CacheProperties {
+
+    private NearCache nearCache = new NearCache();
+    private Stampede stampede = new Stampede();
+    private RoleCatalog roleCatalog = new RoleCatalog();
+
+    @Getter
+    @Setter
+    public static class NearCache {
+        private boolean enabled = true;
+        private String invalidationChannel = "revquix:near-cache:invalidation";
+        private Map<String, Region> regions = new LinkedHashMap<>();
+    }
+
+    @Getter
+    @Setter
+    public static class Region {
+        private String prefix;
+        private long ttlSeconds = 30;
+        private long maximumSize = 10000;
+    }
+
+    @Getter
+    @Setter
+    public static class Stampede {
+        /**
+         * XFetch weight; above 1 favours earlier refreshes, 0 disables early refresh.
+         */
+        private double beta = 1.0;
+        /**
+         * Extra Redis TTL past the logical expiry during which a stale value is still served
+         * while one caller reloads it.
+         */
+        private long staleSeconds = 60;
+        private Lease lease = new Lease();
+    }
+
+    @Getter
+    @Setter
+    public static class RoleCatalog {
+        private String refreshChannel = "revquix:role-catalog:refresh";
+        /**
+         * Safety reload in case a refresh broadcast was missed.
+         */
+        private long refreshIntervalMs = 600000;
+    }
+
+    @Getter
+    @Setter
+    public static class Lease {
+        private boolean enabled = false;
+        private long ttlMillis = 3000;
+        private long waitMillis = 200;
+    }
+}
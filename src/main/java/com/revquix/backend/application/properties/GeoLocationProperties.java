@@ -0,0 +1,78 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.application.properties;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: GeoLocationProperties
+ */
+
+import com.revquix.backend.application.enums.GeoLocationSource;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "geo-location")
+@Getter
+@Setter
+public class GeoLocationProperties {
+
+    private GeoLocationSource provider = GeoLocationSource.IP_API;
+    private long lookupTimeoutMs = 2000;
+    private Cache cache = new Cache();
+    private IpApi ipApi = new IpApi();
+    private Offline offline = new Offline();
+
+    @Getter
+    @Setter
+    public static class Cache {
+        private long ttlSeconds = 86400;
+        private long negativeTtlSeconds = 300;
+        private long maximumSize = 50000;
+    }
+
+    @Getter
+    @Setter
+    public static class IpApi {
+        private String baseUrl = "http://ip-api.com/json";
+        private long timeoutMs = 1500;
+    }
+
+    @Getter
+    @Setter
+    public static class Offline {
+        /**
+         * Index file produced by the {@code compileGeoIndex} Gradle task.
+         */
+        private String databasePath;
+    }
+}
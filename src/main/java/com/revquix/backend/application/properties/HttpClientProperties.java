@@ -0,0 +1,78 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.application.properties;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: HttpClientProperties
+ */
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-upstream HTTP client settings, keyed by upstream name. An upstream without an entry gets
+ * the defaults below.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "http-clients")
+@Getter
+@Setter
+public class HttpClientProperties {
+
+    private Map<String, Upstream> upstreams = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Upstream {
+        private int maxConnections = 20;
+        /**
+         * Requests allowed to wait for a pooled connection; beyond this acquisition fails at once.
+         */
+        private int pendingAcquireMaxCount = 50;
+        private long pendingAcquireTimeoutMs = 2000;
+        private long connectTimeoutMs = 2000;
+        private long readTimeoutMs = 5000;
+        private long writeTimeoutMs = 5000;
+        private long responseTimeoutMs = 10000;
+        private long maxIdleTimeMs = 30000;
+        private long maxLifeTimeMs = 300000;
+        /**
+         * In-flight requests allowed to this upstream; excess requests fail fast instead of queueing.
+         */
+        private int maxConcurrentRequests = 16;
+        private int maxInMemorySize = 1024 * 1024 * 10;
+    }
+}
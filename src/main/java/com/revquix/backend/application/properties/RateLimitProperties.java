@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -34,6 +34,7 @@ package com.revquix.backend.application.properties;
   File: RateLimitProperties
  */
 
+import com.revquix.backend.application.enums.RateLimitAlgorithm;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -46,7 +47,12 @@ import org.springframework.context.annotation.Configuration;
 public class RateLimitProperties {
 
     private boolean enabled = true;
+    /**
+     * Each algorithm keeps its own window keys, so switching it starts every client on a fresh quota.
+     */
+    private RateLimitAlgorithm algorithm = RateLimitAlgorithm.SLIDING_LOG;
     private IpRateLimit ipRateLimit = new IpRateLimit();
+    private LocalPreFilter localPreFilter = new LocalPreFilter();
 
     @Getter
     @Setter
@@ -56,4 +62,13 @@ public class RateLimitProperties {
         private int requestPerHour = 2000;
         private int blockedDurationMinutes = 15;
     }
+
+    @Getter
+    @Setter
+    public static class LocalPreFilter {
+        private boolean enabled;
+        private long flushIntervalMs = 1000;
+        private long maximumKeys = 100000;
+        private long idleExpirySeconds = 3600;
+    }
 }
@@ -0,0 +1,73 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.application.properties;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: SweeperProperties
+ */
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "sweeper")
+@Getter
+@Setter
+public class SweeperProperties {
+
+    private boolean enabled = true;
+    private long intervalMs = 300000;
+    private long initialDelayMs = 60000;
+    private int batchSize = 500;
+    /**
+     * Upper bound on batches per table per run; a backlog larger than this drains over several runs.
+     */
+    private int maxBatchesPerRun = 40;
+    /**
+     * Sleep between batches so the sweeper never holds a connection or I/O for long stretches.
+     */
+    private long pauseBetweenBatchesMs = 200;
+    private Retention retention = new Retention();
+
+    /**
+     * How long rows are kept past their expiry (or, for the mail outbox, past reaching SENT/DEAD).
+     */
+    @Getter
+    @Setter
+    public static class Retention {
+        private long refreshTokenGraceMinutes = 60;
+        private long mfaGraceMinutes = 60;
+        private long otpGraceHours = 24;
+        private long mailOutboxDays = 7;
+    }
+}
@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -34,42 +34,125 @@ package com.revquix.backend.application.service;
   File: CacheService
  */
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.revquix.backend.application.codec.CacheCodecRegistry;
+import com.revquix.backend.application.properties.CacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class CacheService {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    /**
+     * Entries written by this service are {@code [ENVELOPE, long logicalExpiryMillis, int loadMillis, payload...]}.
+     * Redis keeps them {@code cache.stampede.stale-seconds} past the logical expiry so a stale copy can
+     * be served while one caller reloads it.
+     */
+    private static final byte ENVELOPE = (byte) 0xB2;
+    private static final int ENVELOPE_BYTES = 13;
+    private static final String LEASE_PREFIX = "lease:";
+    private static final String LOOKUP_NEAR_HIT = "near_hit";
+    private static final String LOOKUP_HIT = "hit";
+    private static final String LOOKUP_MISS = "miss";
+    private static final String LOOKUP_ERROR = "error";
+    private static final long LEASE_POLL_MILLIS = 20;
+    private static final DefaultRedisScript<Long> RELEASE_LEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class
+    );
+
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final CacheCodecRegistry cacheCodecRegistry;
+
+    private final NearCacheService nearCacheService;
+
+    private final CacheProperties cacheProperties;
 
-    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<String, Counter> lookupCounters = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, CompletableFuture<byte[]>> inFlightLoads = new ConcurrentHashMap<>();
+
+    private final String leaseOwner = UUID.randomUUID().toString();
 
     @Value("${spring.data.redis.ttl:3600}")
     private long defaultTtlSeconds;
 
     public <T> T get(String key, Class<T> type) {
         try {
-            Object cachedValue = redisTemplate.opsForValue().get(key);
+            byte[] cachedValue = read(key);
             if (cachedValue != null) {
-                log.debug("{}::get -> Cache HIT for key: {}", getClass().getSimpleName(), key);
-                return objectMapper.convertValue(cachedValue, type);
+                return decode(cachedValue, type);
             }
             log.debug("{}::get -> Cache MISS for key: {}", getClass().getSimpleName(), key);
             return null;
         } catch (Exception e) {
             log.error("{}::get -> Error retrieving from cache for key '{}': {}", getClass().getSimpleName(), key, e.getMessage());
+            countLookup(key, LOOKUP_ERROR);
             return null;
         }
     }
 
+    public <T> T getOrLoad(String key, Class<T> type, Supplier<T> loader) {
+        return getOrLoad(key, type, Duration.ofSeconds(defaultTtlSeconds), loader);
+    }
+
+    /**
+     * Cache-aside read that lets a single caller per key run {@code loader}. Concurrent misses on this
+     * node wait for that load; with {@code cache.stampede.lease.enabled} other nodes wait briefly for it
+     * too. Hits near the logical expiry are refreshed early (XFetch) by one caller while everyone else
+     * keeps getting the current value; if that refresh fails, the refreshing caller gets the current value
+     * too. A {@code null} from the loader means "not found" and is not cached.
+     */
+    public <T> T getOrLoad(String key, Class<T> type, Duration ttl, Supplier<T> loader) {
+        byte[] cachedValue = null;
+        T value = null;
+        try {
+            cachedValue = read(key);
+            if (cachedValue != null) {
+                value = decode(cachedValue, type);
+            }
+        } catch (Exception e) {
+            log.error("{}::getOrLoad -> Error retrieving from cache for key '{}': {}", getClass().getSimpleName(), key, e.getMessage());
+            countLookup(key, LOOKUP_ERROR);
+            cachedValue = null;
+        }
+        if (value != null && !shouldRefreshEarly(cachedValue)) {
+            return value;
+        }
+        if (value != null) {
+            log.debug("{}::getOrLoad -> Refreshing key '{}' ahead of expiry", getClass().getSimpleName(), key);
+        }
+        return load(key, type, ttl, loader, value == null ? null : cachedValue, value);
+    }
+
     public void put(String key, Object value) {
         log.debug("{}::put -> Cache put for key: {}", getClass().getSimpleName(), key);
         put(key, value, Duration.ofSeconds(defaultTtlSeconds));
@@ -79,7 +162,7 @@ public class CacheService {
         log.debug("{}::put -> Cache put with duration for key: {}", getClass().getSimpleName(), key);
         try {
             if (value != null) {
-                redisTemplate.opsForValue().set(key, value, ttl);
+                write(key, cacheCodecRegistry.encode(value), ttl, 0);
                 log.debug("{}::put -> Cached data for key '{}' with TTL: {}", getClass().getSimpleName(), key, ttl);
             } else {
                 log.warn("{}::put -> Attempted to cache null value for key: {}", getClass().getSimpleName(), key);
@@ -92,7 +175,7 @@ public class CacheService {
     public boolean check(String key) {
         log.debug("{}::check -> Cache existence check for key: {}", getClass().getSimpleName(), key);
         try {
-            Boolean exists = redisTemplate.hasKey(key);
+            Boolean exists = binaryRedisTemplate.hasKey(key);
             log.debug("{}::check -> Cache existence check for key '{}': {}", getClass().getSimpleName(), key, exists);
             return Boolean.TRUE.equals(exists);
         } catch (Exception e) {
@@ -104,7 +187,8 @@ public class CacheService {
     public boolean delete(String key) {
         log.debug("{}::delete -> Cache delete for key: {}", getClass().getSimpleName(), key);
         try {
-            Boolean deleted = redisTemplate.delete(key);
+            Boolean deleted = binaryRedisTemplate.delete(key);
+            nearCacheService.invalidate(key);
             if (Boolean.TRUE.equals(deleted)) {
                 log.debug("{}::delete -> Deleted cache entry for key: {}", getClass().getSimpleName(), key);
                 return true;
@@ -117,6 +201,27 @@ public class CacheService {
         }
     }
 
+    /**
+     * Deletes every key with a single {@code DEL} and sends the matching near cache invalidations
+     * in the same pipeline.
+     */
+    public void deleteAll(Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) return;
+        log.debug("{}::deleteAll -> Cache delete for {} keys", getClass().getSimpleName(), keys.size());
+        try {
+            byte[][] rawKeys = keys.stream()
+                    .map(key -> key.getBytes(StandardCharsets.UTF_8))
+                    .toArray(byte[][]::new);
+            binaryRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.keyCommands().del(rawKeys);
+                nearCacheService.invalidateAll(keys, connection);
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("{}::deleteAll -> Error deleting {} keys from cache: {}", getClass().getSimpleName(), keys.size(), e.getMessage());
+        }
+    }
+
     public String generateKey(String prefix, Object... keyParts) {
         log.info("{}::generateKey -> Generating cache key with prefix: {}", getClass().getSimpleName(), prefix);
         StringBuilder keyBuilder = new StringBuilder(prefix);
@@ -125,4 +230,207 @@ public class CacheService {
         }
         return keyBuilder.toString();
     }
+
+    private <T> T load(String key, Class<T> type, Duration ttl, Supplier<T> loader, byte[] staleValue, T stale) {
+        CompletableFuture<byte[]> pending = new CompletableFuture<>();
+        CompletableFuture<byte[]> inFlight = inFlightLoads.putIfAbsent(key, pending);
+        if (inFlight != null) {
+            if (stale != null) {
+                return stale;
+            }
+            byte[] shared = await(inFlight);
+            return shared == null ? null : decode(shared, type);
+        }
+        boolean leased = false;
+        try {
+            leased = acquireLease(key);
+            if (!leased) {
+                byte[] loadedElsewhere = staleValue != null ? staleValue : awaitOtherNode(key);
+                if (loadedElsewhere != null) {
+                    pending.complete(loadedElsewhere);
+                    return stale != null ? stale : decode(loadedElsewhere, type);
+                }
+            }
+            long generation = nearCacheService.generation(key);
+            long startNanos = System.nanoTime();
+            T value;
+            try {
+                value = loader.get();
+            } catch (RuntimeException e) {
+                if (stale == null) {
+                    throw e;
+                }
+                log.warn("{}::load -> Early refresh of key '{}' failed, serving the cached value: {}", getClass().getSimpleName(), key, e.getMessage());
+                pending.complete(staleValue);
+                return stale;
+            }
+            long loadMillis = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+            byte[] payload = null;
+            if (value != null) {
+                payload = cacheCodecRegistry.encode(value);
+                fillQuietly(key, payload, ttl, loadMillis, generation);
+            } else if (staleValue != null) {
+                delete(key);
+            }
+            pending.complete(payload);
+            return value;
+        } catch (RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(key, pending);
+            if (leased) {
+                releaseLease(key);
+            }
+        }
+    }
+
+    private byte[] read(String key) {
+        byte[] cachedValue = (byte[]) nearCacheService.get(key);
+        if (cachedValue != null) {
+            log.debug("{}::read -> Near cache HIT for key: {}", getClass().getSimpleName(), key);
+            countLookup(key, LOOKUP_NEAR_HIT);
+            return cachedValue;
+        }
+        long generation = nearCacheService.generation(key);
+        cachedValue = binaryRedisTemplate.opsForValue().get(key);
+        if (cachedValue != null) {
+            log.debug("{}::read -> Cache HIT for key: {}", getClass().getSimpleName(), key);
+            nearCacheService.putIfUnchanged(key, cachedValue, generation);
+        }
+        countLookup(key, cachedValue != null ? LOOKUP_HIT : LOOKUP_MISS);
+        return cachedValue;
+    }
+
+    /**
+     * Counts one lookup under {@code revquix.cache.lookups}, tagged with the part of the key before the
+     * first {@code ':'} so the tag stays bounded to the prefixes in {@code CacheConstants}.
+     */
+    private void countLookup(String key, String result) {
+        int separator = key.indexOf(':');
+        String prefix = separator > 0 ? key.substring(0, separator) : "other";
+        lookupCounters.computeIfAbsent(prefix + '|' + result, ignored -> Counter.builder("revquix.cache.lookups")
+                .description("Cache lookups by key prefix and result")
+                .tag("prefix", prefix)
+                .tag("result", result)
+                .register(meterRegistry))
+                .increment();
+    }
+
+    /**
+     * A write changes the cached value, so every node's near cache (and the listeners derived from it)
+     * is invalidated.
+     */
+    private void write(String key, byte[] payload, Duration ttl, long loadMillis) {
+        byte[] entry = envelope(payload, ttl, loadMillis);
+        binaryRedisTemplate.opsForValue().set(key, entry, redisTtl(ttl));
+        nearCacheService.invalidate(key);
+    }
+
+    /**
+     * A fill or early refresh only caches what the source of truth already holds, so nothing is
+     * published; the entry is installed locally unless an invalidation arrived during the load.
+     */
+    private void fillQuietly(String key, byte[] payload, Duration ttl, long loadMillis, long generation) {
+        try {
+            byte[] entry = envelope(payload, ttl, loadMillis);
+            binaryRedisTemplate.opsForValue().set(key, entry, redisTtl(ttl));
+            nearCacheService.putIfUnchanged(key, entry, generation);
+        } catch (Exception e) {
+            log.error("{}::fillQuietly -> Error caching data for key '{}': {}", getClass().getSimpleName(), key, e.getMessage());
+        }
+    }
+
+    private static byte[] envelope(byte[] payload, Duration ttl, long loadMillis) {
+        return ByteBuffer.allocate(ENVELOPE_BYTES + payload.length)
+                .put(ENVELOPE)
+                .putLong(System.currentTimeMillis() + ttl.toMillis())
+                .putInt((int) Math.min(Integer.MAX_VALUE, loadMillis))
+                .put(payload)
+                .array();
+    }
+
+    private Duration redisTtl(Duration ttl) {
+        return ttl.plusSeconds(cacheProperties.getStampede().getStaleSeconds());
+    }
+
+    private <T> T decode(byte[] cachedValue, Class<T> type) {
+        int offset = cachedValue.length >= ENVELOPE_BYTES && cachedValue[0] == ENVELOPE ? ENVELOPE_BYTES : 0;
+        return cacheCodecRegistry.decode(cachedValue, offset, type);
+    }
+
+    /**
+     * XFetch: refresh once {@code now - loadMillis * beta * ln(random)} passes the logical expiry, so the
+     * chance of an early refresh grows as expiry approaches and with how expensive the load was.
+     */
+    private boolean shouldRefreshEarly(byte[] cachedValue) {
+        if (cachedValue.length < ENVELOPE_BYTES || cachedValue[0] != ENVELOPE) {
+            return false;
+        }
+        ByteBuffer envelope = ByteBuffer.wrap(cachedValue);
+        long logicalExpiry = envelope.getLong(1);
+        int loadMillis = envelope.getInt(9);
+        double beta = cacheProperties.getStampede().getBeta();
+        double random = Math.max(ThreadLocalRandom.current().nextDouble(), Double.MIN_VALUE);
+        return System.currentTimeMillis() - loadMillis * beta * Math.log(random) >= logicalExpiry;
+    }
+
+    private boolean acquireLease(String key) {
+        CacheProperties.Lease lease = cacheProperties.getStampede().getLease();
+        if (!lease.isEnabled()) {
+            return true;
+        }
+        try {
+            Boolean acquired = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(LEASE_PREFIX + key, leaseOwner, Duration.ofMillis(lease.getTtlMillis()));
+            return !Boolean.FALSE.equals(acquired);
+        } catch (Exception e) {
+            log.warn("{}::acquireLease -> Unable to take lease for key '{}', loading anyway: {}", getClass().getSimpleName(), key, e.getMessage());
+            return true;
+        }
+    }
+
+    private void releaseLease(String key) {
+        if (!cacheProperties.getStampede().getLease().isEnabled()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(LEASE_PREFIX + key), leaseOwner);
+        } catch (Exception e) {
+            log.warn("{}::releaseLease -> Unable to release lease for key '{}': {}", getClass().getSimpleName(), key, e.getMessage());
+        }
+    }
+
+    /**
+     * Another node holds the lease; give it {@code lease.wait-millis} to publish the value before
+     * loading it here as well.
+     */
+    private byte[] awaitOtherNode(String key) {
+        long deadline = System.currentTimeMillis() + cacheProperties.getStampede().getLease().getWaitMillis();
+        try {
+            while (System.currentTimeMillis() < deadline) {
+                Thread.sleep(LEASE_POLL_MILLIS);
+                byte[] cachedValue = binaryRedisTemplate.opsForValue().get(key);
+                if (cachedValue != null) {
+                    return cachedValue;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("{}::awaitOtherNode -> Error polling cache for key '{}': {}", getClass().getSimpleName(), key, e.getMessage());
+        }
+        return null;
+    }
+
+    private static byte[] await(CompletableFuture<byte[]> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
 }
@@ -0,0 +1,148 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.application.service;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: ExpiredRowSweeper
+ */
+
+import com.revquix.backend.application.dao.ExpiredRowDao;
+import com.revquix.backend.application.enums.SweepTarget;
+import com.revquix.backend.application.properties.SweeperProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Periodically purges expired refresh tokens, MFA challenges, OTPs and finished outbox mails.
+ * Each batch is its own short transaction and batches are spaced out, so the sweeper trickles
+ * through a backlog instead of competing with live traffic. Safe to run on every instance.
+ */
+@Service
+@Slf4j
+public class ExpiredRowSweeper {
+
+    private final ExpiredRowDao expiredRowDao;
+    private final TransactionTemplate transactionTemplate;
+    private final SweeperProperties sweeperProperties;
+    private final Map<SweepTarget, Counter> purgedCounters = new EnumMap<>(SweepTarget.class);
+    private final Map<SweepTarget, Timer> sweepTimers = new EnumMap<>(SweepTarget.class);
+
+    public ExpiredRowSweeper(
+            ExpiredRowDao expiredRowDao,
+            TransactionTemplate transactionTemplate,
+            SweeperProperties sweeperProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.expiredRowDao = expiredRowDao;
+        this.transactionTemplate = transactionTemplate;
+        this.sweeperProperties = sweeperProperties;
+        for (SweepTarget target : SweepTarget.values()) {
+            String table = target.name().toLowerCase(Locale.ROOT);
+            purgedCounters.put(target, Counter.builder("revquix.sweeper.rows.purged")
+                    .description("Expired rows deleted by the retention sweeper")
+                    .tag("table", table)
+                    .register(meterRegistry));
+            sweepTimers.put(target, Timer.builder("revquix.sweeper.duration")
+                    .description("Time spent sweeping one table, pauses included")
+                    .tag("table", table)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${sweeper.interval-ms:300000}",
+            initialDelayString = "${sweeper.initial-delay-ms:60000}"
+    )
+    public void sweep() {
+        if (!sweeperProperties.isEnabled()) return;
+        for (SweepTarget target : SweepTarget.values()) {
+            try {
+                long purged = sweepTimers.get(target).record(() -> sweep(target, cutoffFor(target)));
+                if (purged > 0) {
+                    log.info("{}::sweep -> Purged {} rows from {}", getClass().getSimpleName(), purged, target.getTable());
+                }
+            } catch (Exception exception) {
+                log.error("{}::sweep -> Sweeping {} failed: {}", getClass().getSimpleName(), target.getTable(), exception.getMessage());
+            }
+            if (Thread.currentThread().isInterrupted()) return;
+        }
+    }
+
+    private long sweep(SweepTarget target, Object cutoff) {
+        int batchSize = sweeperProperties.getBatchSize();
+        long total = 0;
+        Object cursor = null;
+        for (int batchNo = 0; batchNo < sweeperProperties.getMaxBatchesPerRun(); batchNo++) {
+            Object currentCursor = cursor;
+            ExpiredRowDao.Batch batch = transactionTemplate.execute(status -> expiredRowDao.purgeBatch(target, cutoff, currentCursor, batchSize));
+            if (batch == null || batch.purged() == 0) break;
+            purgedCounters.get(target).increment(batch.purged());
+            total += batch.purged();
+            if (batch.purged() < batchSize) break;
+            cursor = batch.lastKey();
+            if (!pause()) break;
+        }
+        return total;
+    }
+
+    private Object cutoffFor(SweepTarget target) {
+        SweeperProperties.Retention retention = sweeperProperties.getRetention();
+        LocalDateTime now = LocalDateTime.now();
+        return switch (target) {
+            case REFRESH_TOKEN -> System.currentTimeMillis() - retention.getRefreshTokenGraceMinutes() * 60_000L;
+            case MFA -> now.minusMinutes(retention.getMfaGraceMinutes());
+            case OTP_ENTITY -> now.minusHours(retention.getOtpGraceHours());
+            case MAIL_OUTBOX -> now.minusDays(retention.getMailOutboxDays());
+        };
+    }
+
+    private boolean pause() {
+        long pauseMs = sweeperProperties.getPauseBetweenBatchesMs();
+        if (pauseMs <= 0) return true;
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.application.service;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: GeoLocationService
+ */
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.revquix.backend.application.payload.GeoLocation;
+import com.revquix.backend.application.properties.GeoLocationProperties;
+import com.revquix.backend.application.utils.GeoLocationIndex;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * IP to location lookups behind an in-memory cache. Concurrent lookups of the same address share one
+ * provider call, and failed or unknown lookups are cached for a shorter TTL so a flaky provider is
+ * not hammered on every login.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GeoLocationService {
+
+    private final GeoLocationProperties geoLocationProperties;
+    private final List<GeoLocationProvider> geoLocationProviders;
+
+    private GeoLocationProvider provider;
+    private AsyncCache<String, GeoLocation> cache;
+
+    @PostConstruct
+    public void init() {
+        provider = geoLocationProviders
+                .stream()
+                .filter(candidate -> candidate.getSource() == geoLocationProperties.getProvider())
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No geolocation provider for " + geoLocationProperties.getProvider()));
+        GeoLocationProperties.Cache cacheProperties = geoLocationProperties.getCache();
+        long ttlNanos = Duration.ofSeconds(cacheProperties.getTtlSeconds()).toNanos();
+        long negativeTtlNanos = Duration.ofSeconds(cacheProperties.getNegativeTtlSeconds()).toNanos();
+        cache = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.getMaximumSize())
+                .expireAfter(new Expiry<String, GeoLocation>() {
+                    @Override
+                    public long expireAfterCreate(String key, GeoLocation value, long currentTime) {
+                        return value.isResolved() ? ttlNanos : negativeTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, GeoLocation value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, GeoLocation value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .buildAsync();
+        log.info("{}::init -> Using {} geolocation provider with ttl {}s, negative ttl {}s",
+                getClass().getSimpleName(), provider.getSource(), cacheProperties.getTtlSeconds(), cacheProperties.getNegativeTtlSeconds());
+    }
+
+    public CompletableFuture<GeoLocation> lookup(String ipAddress) {
+        long ip = GeoLocationIndex.parseIpv4(ipAddress);
+        if (ipAddress == null || ipAddress.isBlank() || (ip >= 0 && GeoLocationIndex.isNonRoutable(ip))) {
+            return CompletableFuture.completedFuture(GeoLocation.UNKNOWN);
+        }
+        return cache.get(ipAddress, (key, executor) -> provider
+                .locate(key)
+                .handle((location, throwable) -> {
+                    if (throwable != null) {
+                        log.warn("{}::lookup -> {} lookup failed for {}: {}", getClass().getSimpleName(), provider.getSource(), key, throwable.getMessage());
+                        return GeoLocation.UNKNOWN;
+                    }
+                    return location == null ? GeoLocation.UNKNOWN : location;
+                }));
+    }
+
+    /**
+     * Blocking variant for background callers, waiting at most {@code geo-location.lookup-timeout-ms}.
+     * A timed out lookup keeps running and still populates the cache for the next caller.
+     */
+    public GeoLocation resolve(String ipAddress) {
+        try {
+            return lookup(ipAddress).get(geoLocationProperties.getLookupTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException exception) {
+            log.warn("{}::resolve -> Geolocation lookup for {} timed out", getClass().getSimpleName(), ipAddress);
+            return GeoLocation.UNKNOWN;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return GeoLocation.UNKNOWN;
+        } catch (ExecutionException exception) {
+            return GeoLocation.UNKNOWN;
+        }
+    }
+}
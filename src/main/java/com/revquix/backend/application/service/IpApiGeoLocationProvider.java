@@ -0,0 +1,90 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.application.service;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: IpApiGeoLocationProvider
+ */
+
+import com.revquix.backend.application.config.UpstreamWebClients;
+import com.revquix.backend.application.constants.ServiceConstants;
+import com.revquix.backend.application.enums.GeoLocationSource;
+import com.revquix.backend.application.payload.GeoLocation;
+import com.revquix.backend.application.payload.IPResponse;
+import com.revquix.backend.application.properties.GeoLocationProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IpApiGeoLocationProvider implements GeoLocationProvider {
+
+    private static final String SUCCESS = "success";
+
+    private final UpstreamWebClients upstreamWebClients;
+    private final GeoLocationProperties geoLocationProperties;
+
+    private WebClient webClient;
+
+    @PostConstruct
+    public void init() {
+        webClient = upstreamWebClients.get(ServiceConstants.IP_API_UPSTREAM);
+    }
+
+    @Override
+    public GeoLocationSource getSource() {
+        return GeoLocationSource.IP_API;
+    }
+
+    @Override
+    public CompletableFuture<GeoLocation> locate(String ipAddress) {
+        log.debug("{}::locate -> Fetching location for IP address: {}", getClass().getSimpleName(), ipAddress);
+        GeoLocationProperties.IpApi ipApi = geoLocationProperties.getIpApi();
+        return webClient
+                .get()
+                .uri(ipApi.getBaseUrl() + "/{ip}", ipAddress)
+                .retrieve()
+                .bodyToMono(IPResponse.class)
+                .timeout(Duration.ofMillis(ipApi.getTimeoutMs()))
+                .map(response -> SUCCESS.equals(response.getStatus())
+                        ? new GeoLocation(response.getCity(), response.getCountry(), true)
+                        : GeoLocation.UNKNOWN)
+                .defaultIfEmpty(GeoLocation.UNKNOWN)
+                .toFuture();
+    }
+}
@@ -0,0 +1,248 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.application.service;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: LocalRateLimiter
+ */
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.revquix.backend.application.enums.RateLimitType;
+import com.revquix.backend.application.payload.RateLimitResult;
+import com.revquix.backend.application.payload.RateLimitWindow;
+import com.revquix.backend.application.properties.RateLimitProperties;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * In-process pre-filter in front of the Redis rate limit scripts. Every identifier gets a lock-free
+ * token bucket per window, expressed as a theoretical arrival time updated with CAS. Requests it
+ * admits are only counted and later reconciled with Redis in batches, and the verdict Redis returns
+ * for a batch is what lets the filter reject clients that went over the cluster-wide limit.
+ * <p>
+ * Buckets are dropped on every node when an admin unblocks or clears an identifier, through the
+ * near cache invalidation channel under the {@code rate_limit:ip} prefix.
+ */
+@Component
+@Slf4j
+public class LocalRateLimiter {
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+    private static final String INVALIDATION_PREFIX = "rate_limit:ip";
+
+    @Getter
+    private final boolean enabled;
+    private final Cache<String, LocalBucket> buckets;
+    private final Queue<LocalBucket> evictedWithPending = new ConcurrentLinkedQueue<>();
+    private final NearCacheService nearCacheService;
+
+    public LocalRateLimiter(RateLimitProperties rateLimitProperties, NearCacheService nearCacheService) {
+        RateLimitProperties.LocalPreFilter localPreFilter = rateLimitProperties.getLocalPreFilter();
+        this.enabled = localPreFilter.isEnabled();
+        this.nearCacheService = nearCacheService;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(localPreFilter.getMaximumKeys())
+                .expireAfterAccess(Duration.ofSeconds(localPreFilter.getIdleExpirySeconds()))
+                .removalListener((String key, LocalBucket bucket, RemovalCause cause) -> {
+                    if (cause.wasEvicted() && bucket != null && bucket.pending.sum() > 0) {
+                        evictedWithPending.add(bucket);
+                    }
+                })
+                .build();
+        nearCacheService.addInvalidationListener(INVALIDATION_PREFIX, this::invalidateLocally);
+    }
+
+    /**
+     * Returns the bucket tracking the identifier for this set of windows, creating it on first use
+     */
+    public LocalBucket bucketFor(String identifier, List<RateLimitWindow> windows, boolean checkBlock, int blockSeconds) {
+        StringBuilder keyBuilder = new StringBuilder(identifier)
+                .append('|').append(checkBlock ? 'b' : 'n').append(blockSeconds);
+        for (RateLimitWindow window : windows) {
+            keyBuilder.append(':').append(window.getLimit()).append('/').append(window.getWindowSeconds());
+        }
+        return buckets.get(keyBuilder.toString(), key -> new LocalBucket(identifier, windows, checkBlock, blockSeconds));
+    }
+
+    /**
+     * Hands the pending count of every bucket to the reconciler and applies the verdict it returns
+     */
+    public void drain(BiFunction<LocalBucket, Long, RateLimitResult> reconciler) {
+        LocalBucket evicted;
+        while ((evicted = evictedWithPending.poll()) != null) {
+            long pending = evicted.pending.sumThenReset();
+            if (pending > 0) {
+                reconciler.apply(evicted, pending);
+            }
+        }
+        for (LocalBucket bucket : buckets.asMap().values()) {
+            long pending = bucket.pending.sumThenReset();
+            if (pending > 0) {
+                bucket.reconcile(reconciler.apply(bucket, pending));
+            }
+        }
+    }
+
+    /**
+     * Drops every bucket of the identifier on this node and on every other one, so a local denial
+     * does not outlive an admin unblock
+     */
+    public void invalidate(String identifier) {
+        nearCacheService.invalidate(INVALIDATION_PREFIX + ":" + identifier);
+    }
+
+    private void invalidateLocally(String identifier) {
+        buckets.asMap().values().removeIf(bucket -> bucket.getIdentifier().equals(identifier));
+        log.debug("LocalRateLimiter::invalidateLocally -> Dropped local buckets of {}", identifier);
+    }
+
+    public static class LocalBucket {
+
+        @Getter
+        private final String identifier;
+        @Getter
+        private final List<RateLimitWindow> windows;
+        @Getter
+        private final boolean checkBlock;
+        @Getter
+        private final int blockSeconds;
+        private final long[] intervalsMicros;
+        private final AtomicLong[] theoreticalArrivals;
+        private final LongAdder pending = new LongAdder();
+        private final AtomicBoolean primed = new AtomicBoolean();
+        private volatile long deniedUntilMillis;
+
+        private LocalBucket(String identifier, List<RateLimitWindow> windows, boolean checkBlock, int blockSeconds) {
+            this.identifier = identifier;
+            this.windows = List.copyOf(windows);
+            this.checkBlock = checkBlock;
+            this.blockSeconds = blockSeconds;
+            this.intervalsMicros = new long[windows.size()];
+            this.theoreticalArrivals = new AtomicLong[windows.size()];
+            for (int i = 0; i < windows.size(); i++) {
+                RateLimitWindow window = windows.get(i);
+                intervalsMicros[i] = Math.max(window.getWindowSeconds() * MICROS_PER_SECOND / window.getLimit(), 1);
+                theoreticalArrivals[i] = new AtomicLong();
+            }
+        }
+
+        /**
+         * True for the first caller only, which is expected to consult Redis synchronously so blocks
+         * applied by other nodes are honoured before this node starts admitting locally
+         */
+        public boolean claimPriming() {
+            return !primed.get() && primed.compareAndSet(false, true);
+        }
+
+        /**
+         * Admits or rejects the request without network I/O, admitted requests are queued for reconciliation
+         */
+        public RateLimitResult tryAcquire() {
+            long nowMillis = System.currentTimeMillis();
+            if (nowMillis < deniedUntilMillis) {
+                return rejected(0, deniedUntilMillis - nowMillis);
+            }
+
+            long nowMicros = nowMillis * 1000;
+            int tightestIndex = 0;
+            long tightestRemaining = Long.MAX_VALUE;
+            long tightestResetMicros = 0;
+            for (int i = 0; i < theoreticalArrivals.length; i++) {
+                long windowMicros = windows.get(i).getWindowSeconds() * MICROS_PER_SECOND;
+                long newArrival = acquire(i, nowMicros, windowMicros);
+                if (newArrival < 0) {
+                    for (int j = 0; j < i; j++) {
+                        theoreticalArrivals[j].addAndGet(-intervalsMicros[j]);
+                    }
+                    long retryAfterMicros = theoreticalArrivals[i].get() - windowMicros + intervalsMicros[i] - nowMicros;
+                    return rejected(i, Math.max(retryAfterMicros / 1000, 1));
+                }
+                long remaining = (windowMicros - (newArrival - nowMicros)) / intervalsMicros[i];
+                if (remaining < tightestRemaining) {
+                    tightestIndex = i;
+                    tightestRemaining = remaining;
+                    tightestResetMicros = newArrival - nowMicros;
+                }
+            }
+            pending.increment();
+
+            RateLimitWindow window = windows.get(tightestIndex);
+            return new RateLimitResult(true, tightestRemaining, window.getLimit() - tightestRemaining, window.getWindowSeconds(),
+                    LocalDateTime.now(ZoneOffset.UTC).plus(tightestResetMicros, ChronoUnit.MICROS), RateLimitType.IP_BASED.getValue());
+        }
+
+        /**
+         * Applies a verdict returned by Redis, a denial keeps rejecting locally until the reported reset
+         */
+        public void reconcile(RateLimitResult result) {
+            if (!result.isAllowed()) {
+                long resetMillis = result.getResetTime().toInstant(ZoneOffset.UTC).toEpochMilli();
+                deniedUntilMillis = Math.max(deniedUntilMillis, resetMillis);
+                log.debug("LocalRateLimiter::reconcile -> {} rejected locally until {}", identifier, result.getResetTime());
+            }
+        }
+
+        private long acquire(int index, long nowMicros, long windowMicros) {
+            AtomicLong theoreticalArrival = theoreticalArrivals[index];
+            while (true) {
+                long current = theoreticalArrival.get();
+                long newArrival = Math.max(current, nowMicros) + intervalsMicros[index];
+                if (newArrival - windowMicros > nowMicros) {
+                    return -1;
+                }
+                if (theoreticalArrival.compareAndSet(current, newArrival)) {
+                    return newArrival;
+                }
+            }
+        }
+
+        private RateLimitResult rejected(int windowIndex, long resetMillis) {
+            RateLimitWindow window = windows.get(windowIndex);
+            return new RateLimitResult(false, 0, window.getLimit(), window.getWindowSeconds(),
+                    LocalDateTime.now(ZoneOffset.UTC).plus(resetMillis, ChronoUnit.MILLIS), RateLimitType.IP_BASED.getValue());
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.application.service;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: NearCacheService
+ */
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.revquix.backend.application.properties.CacheProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * In-JVM first tier in front of {@link CacheService}. Entries are bounded per key prefix and
+ * evicted on every node through the Redis invalidation channel whenever a key is written or deleted.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NearCacheService {
+
+    private static final String MESSAGE_SEPARATOR = "|";
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final CacheProperties cacheProperties;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private List<NearCacheRegion> regions = List.of();
+    private final List<InvalidationListener> invalidationListeners = new CopyOnWriteArrayList<>();
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    @PostConstruct
+    public void init() {
+        CacheProperties.NearCache nearCache = cacheProperties.getNearCache();
+        if (!nearCache.isEnabled()) {
+            log.info("{}::init -> Near cache is disabled", getClass().getSimpleName());
+            return;
+        }
+        List<NearCacheRegion> configuredRegions = new ArrayList<>();
+        nearCache.getRegions().forEach((name, region) -> {
+            Cache<String, Object> cache = Caffeine.newBuilder()
+                    .maximumSize(region.getMaximumSize())
+                    .expireAfterWrite(Duration.ofSeconds(region.getTtlSeconds()))
+                    .build();
+            configuredRegions.add(new NearCacheRegion(region.getPrefix() + ":", cache));
+            log.info("{}::init -> Near cache region '{}' registered for prefix '{}' with ttl {}s and maximum size {}",
+                    getClass().getSimpleName(), name, region.getPrefix(), region.getTtlSeconds(), region.getMaximumSize());
+        });
+        this.regions = List.copyOf(configuredRegions);
+    }
+
+    public Object get(String key) {
+        NearCacheRegion region = regionFor(key);
+        return region == null ? null : region.cache.getIfPresent(key);
+    }
+
+    /**
+     * Invalidation generation of the key, to be read before fetching the value that will later be
+     * passed to {@link #putIfUnchanged}. Keys share generations by hash stripe, so a collision only
+     * costs a skipped put.
+     */
+    public long generation(String key) {
+        return generations.get(stripe(key));
+    }
+
+    /**
+     * Installs {@code value} only if no invalidation of the key was seen since {@code generation} was
+     * read, so bytes fetched before a concurrent invalidation never outlive it in this tier.
+     */
+    public void putIfUnchanged(String key, Object value, long generation) {
+        NearCacheRegion region = regionFor(key);
+        if (region == null || value == null) {
+            return;
+        }
+        int stripe = stripe(key);
+        region.cache.asMap().compute(key, (ignored, current) -> generations.get(stripe) == generation ? value : current);
+    }
+
+    /**
+     * Lets a local cache derived from entries under {@code prefix} follow the same invalidations as the
+     * near cache, on this node and on every other one.
+     */
+    public void addInvalidationListener(String prefix, Consumer<String> listener) {
+        invalidationListeners.add(new InvalidationListener(prefix + ":", listener));
+    }
+
+    /**
+     * Evicts the key locally and asks every other node to do the same.
+     */
+    public void invalidate(String key) {
+        if (!evictLocally(key)) {
+            return;
+        }
+        try {
+            stringRedisTemplate.convertAndSend(
+                    cacheProperties.getNearCache().getInvalidationChannel(),
+                    nodeId + MESSAGE_SEPARATOR + key
+            );
+        } catch (Exception e) {
+            log.error("{}::invalidate -> Error publishing invalidation for key '{}': {}", getClass().getSimpleName(), key, e.getMessage());
+        }
+    }
+
+    /**
+     * Bulk form of {@link #invalidate(String)} that queues the invalidation messages on
+     * {@code connection}, so they travel in the caller's pipeline.
+     */
+    public void invalidateAll(Collection<String> keys, RedisConnection connection) {
+        byte[] channel = cacheProperties.getNearCache().getInvalidationChannel().getBytes(StandardCharsets.UTF_8);
+        for (String key : keys) {
+            if (evictLocally(key)) {
+                connection.publish(channel, (nodeId + MESSAGE_SEPARATOR + key).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    /**
+     * Handles an invalidation message published by {@link #invalidate(String)}, ignoring the ones sent by this node.
+     */
+    public void onInvalidationMessage(String message) {
+        int separatorIndex = message.indexOf(MESSAGE_SEPARATOR);
+        if (separatorIndex < 0) {
+            log.warn("{}::onInvalidationMessage -> Ignoring malformed invalidation message: {}", getClass().getSimpleName(), message);
+            return;
+        }
+        if (nodeId.equals(message.substring(0, separatorIndex))) {
+            return;
+        }
+        String key = message.substring(separatorIndex + 1);
+        NearCacheRegion region = regionFor(key);
+        if (region != null) {
+            generations.incrementAndGet(stripe(key));
+            region.cache.invalidate(key);
+            log.debug("{}::onInvalidationMessage -> Evicted near cache key: {}", getClass().getSimpleName(), key);
+        }
+        notifyListeners(key);
+    }
+
+    private boolean evictLocally(String key) {
+        NearCacheRegion region = regionFor(key);
+        boolean listened = notifyListeners(key);
+        if (region != null) {
+            generations.incrementAndGet(stripe(key));
+            region.cache.invalidate(key);
+        }
+        return region != null || listened;
+    }
+
+    private boolean notifyListeners(String key) {
+        boolean notified = false;
+        for (InvalidationListener listener : invalidationListeners) {
+            if (key.startsWith(listener.keyPrefix)) {
+                listener.callback.accept(key.substring(listener.keyPrefix.length()));
+                notified = true;
+            }
+        }
+        return notified;
+    }
+
+    private static int stripe(String key) {
+        return key.hashCode() & (GENERATION_STRIPES - 1);
+    }
+
+    private NearCacheRegion regionFor(String key) {
+        for (NearCacheRegion region : regions) {
+            if (key.startsWith(region.keyPrefix)) {
+                return region;
+            }
+        }
+        return null;
+    }
+
+    private static final class NearCacheRegion {
+        private final String keyPrefix;
+        private final Cache<String, Object> cache;
+
+        private NearCacheRegion(String keyPrefix, Cache<String, Object> cache) {
+            this.keyPrefix = keyPrefix;
+            this.cache = cache;
+        }
+    }
+
+    private static final class InvalidationListener {
+        private final String keyPrefix;
+        private final Consumer<String> callback;
+
+        private InvalidationListener(String keyPrefix, Consumer<String> callback) {
+            this.keyPrefix = keyPrefix;
+            this.callback = callback;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.application.service;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: OfflineGeoLocationProvider
+ */
+
+import com.revquix.backend.application.enums.GeoLocationSource;
+import com.revquix.backend.application.payload.GeoLocation;
+import com.revquix.backend.application.properties.GeoLocationProperties;
+import com.revquix.backend.application.utils.GeoLocationIndex;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Looks addresses up in a local index file mapped into memory, so lookups never leave the process.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OfflineGeoLocationProvider implements GeoLocationProvider {
+
+    private final GeoLocationProperties geoLocationProperties;
+
+    private volatile GeoLocationIndex index;
+
+    @PostConstruct
+    public void init() {
+        String databasePath = geoLocationProperties.getOffline().getDatabasePath();
+        if (databasePath == null || databasePath.isBlank()) {
+            if (geoLocationProperties.getProvider() == GeoLocationSource.OFFLINE) {
+                log.warn("{}::init -> Offline geolocation selected but no database path configured, every lookup will be unknown", getClass().getSimpleName());
+            }
+            return;
+        }
+        try {
+            index = GeoLocationIndex.open(Path.of(databasePath));
+            log.info("{}::init -> Mapped geolocation index {} with {} ranges", getClass().getSimpleName(), databasePath, index.size());
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Unable to open geolocation index " + databasePath, exception);
+        }
+    }
+
+    @Override
+    public GeoLocationSource getSource() {
+        return GeoLocationSource.OFFLINE;
+    }
+
+    @Override
+    public CompletableFuture<GeoLocation> locate(String ipAddress) {
+        GeoLocationIndex current = index;
+        return CompletableFuture.completedFuture(current == null ? GeoLocation.UNKNOWN : current.find(ipAddress));
+    }
+}
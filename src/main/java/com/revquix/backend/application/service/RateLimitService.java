@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -34,21 +34,31 @@ package com.revquix.backend.application.service;
   File: RateLimitService
  */
 
+import com.revquix.backend.application.constants.RateLimitScripts;
+import com.revquix.backend.application.enums.RateLimitAlgorithm;
 import com.revquix.backend.application.enums.RateLimitType;
 import com.revquix.backend.application.payload.RateLimitResult;
+import com.revquix.backend.application.payload.RateLimitWindow;
 import com.revquix.backend.application.properties.RateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
-import java.util.Arrays;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 @Service
@@ -58,144 +68,183 @@ public class RateLimitService {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final RateLimitProperties rateLimitProperties;
+    private final LocalRateLimiter localRateLimiter;
+    private final MeterRegistry meterRegistry;
+
+    private Counter redisAllowedCounter;
+    private Counter redisDeniedCounter;
+    private Counter localAllowedCounter;
+    private Counter localDeniedCounter;
+    private Counter failOpenCounter;
+
+    private static final String BLOCKED_SUFFIX = "blocked";
+    private static final long STATUS_BLOCKED = -1;
+    private static final long STATUS_ALLOWED = 1;
+
+    private final Map<RateLimitAlgorithm, DefaultRedisScript<List>> scripts = createScripts();
+
+    @PostConstruct
+    public void init() {
+        redisAllowedCounter = decisionCounter("allowed", "redis");
+        redisDeniedCounter = decisionCounter("denied", "redis");
+        localAllowedCounter = decisionCounter("allowed", "local");
+        localDeniedCounter = decisionCounter("denied", "local");
+        failOpenCounter = Counter.builder("revquix.rate.limit.fail.open")
+                .description("Rate limit evaluations let through because Redis could not be reached")
+                .register(meterRegistry);
+    }
+
+    private Counter decisionCounter(String decision, String source) {
+        return Counter.builder("revquix.rate.limit.decisions")
+                .description("Rate limit verdicts by outcome and by where they were decided")
+                .tag("decision", decision)
+                .tag("source", source)
+                .register(meterRegistry);
+    }
 
-    // Lua script for atomic sliding window rate limiting
-    private static final String SLIDING_WINDOW_SCRIPT = """
-        local key = KEYS[1]
-        local window = tonumber(ARGV[1])
-        local limit = tonumber(ARGV[2])
-        local current_time = tonumber(ARGV[3])
-        
-        -- Remove expired entries
-        redis.call('ZREMRANGEBYSCORE', key, 0, current_time - window)
-        
-        -- Count current requests
-        local current_requests = redis.call('ZCARD', key)
-        
-        if current_requests < limit then
-            -- Add current request
-            redis.call('ZADD', key, current_time, current_time)
-            redis.call('EXPIRE', key, window)
-            return {1, limit - current_requests - 1, current_requests + 1}
-        else
-            return {0, 0, current_requests}
-        end
-        """;
-
-    private final DefaultRedisScript<List> slidingWindowScript = createSlidingWindowScript();
-
-    private DefaultRedisScript<List> createSlidingWindowScript() {
+    private Map<RateLimitAlgorithm, DefaultRedisScript<List>> createScripts() {
+        Map<RateLimitAlgorithm, DefaultRedisScript<List>> algorithmScripts = new EnumMap<>(RateLimitAlgorithm.class);
+        algorithmScripts.put(RateLimitAlgorithm.SLIDING_LOG, createScript(RateLimitScripts.SLIDING_LOG));
+        algorithmScripts.put(RateLimitAlgorithm.SLIDING_WINDOW_COUNTER, createScript(RateLimitScripts.SLIDING_WINDOW_COUNTER));
+        algorithmScripts.put(RateLimitAlgorithm.GCRA, createScript(RateLimitScripts.GCRA));
+        return algorithmScripts;
+    }
+
+    private DefaultRedisScript<List> createScript(String scriptText) {
         DefaultRedisScript<List> script = new DefaultRedisScript<>();
-        script.setScriptText(SLIDING_WINDOW_SCRIPT);
+        script.setScriptText(scriptText);
         script.setResultType(List.class);
         return script;
     }
 
     /**
-     * Check rate limit using sliding window algorithm (IP-based only)
+     * Check every window for the identifier in one Redis round trip, without consulting or setting the IP block
      */
-    public RateLimitResult checkRateLimit(String ipAddress, int limit, int windowSeconds) {
+    public RateLimitResult checkRateLimits(String identifier, List<RateLimitWindow> windows) {
         if (!rateLimitProperties.isEnabled()) {
-            return allowedResult(limit, windowSeconds);
-        }
-
-        String key = generateKey(ipAddress, windowSeconds);
-        long currentTime = System.currentTimeMillis() / 1000;
-
-        try {
-            return executeSlidingWindow(key, limit, windowSeconds, currentTime);
-        } catch (Exception e) {
-            log.error("Error checking rate limit for key: {}", key, e);
-            // Fail open - allow request if Redis is down
-            return allowedResult(limit, windowSeconds);
+            return allowedResult(windows.get(0));
         }
+        return checkWindows(identifier, windows, false, 0);
     }
 
     /**
-     * IP-based rate limiting with sliding window
+     * IP-based rate limiting with sliding window, the block check and the block itself are applied by the same script
      */
     public RateLimitResult checkIpRateLimit(String ipAddress) {
-        if (!rateLimitProperties.getIpRateLimit().isEnabled()) {
-            return allowedResult(100, 60);
-        }
-
-        // Check if IP is blocked
-        if (isIpBlocked(ipAddress)) {
-            return blockedResult();
+        if (!rateLimitProperties.isEnabled() || !rateLimitProperties.getIpRateLimit().isEnabled()) {
+            return allowedResult(new RateLimitWindow(100, 60));
         }
 
         RateLimitProperties.IpRateLimit ipConfig = rateLimitProperties.getIpRateLimit();
+        List<RateLimitWindow> windows = List.of(
+                new RateLimitWindow(ipConfig.getRequestPerMinute(), 60),
+                new RateLimitWindow(ipConfig.getRequestPerHour(), 3600)
+        );
+        return checkWindows(ipAddress, windows, true, ipConfig.getBlockedDurationMinutes() * 60);
+    }
 
-        // Check minute limit first
-        RateLimitResult minuteResult = checkRateLimit(ipAddress, ipConfig.getRequestPerMinute(), 60);
-
-        if (!minuteResult.isAllowed()) {
-            // Block IP for configured duration
-            blockIp(ipAddress, ipConfig.getBlockedDurationMinutes());
-            log.warn("IP {} blocked due to minute rate limit exceeded", ipAddress);
-            return minuteResult;
+    /**
+     * Answer from the local pre-filter when it is enabled, only the first request of an identifier goes to Redis
+     */
+    private RateLimitResult checkWindows(String identifier, List<RateLimitWindow> windows, boolean checkBlock, int blockSeconds) {
+        if (!localRateLimiter.isEnabled()) {
+            return countDecision(evaluateWindows(identifier, windows, checkBlock, blockSeconds, 1, false), redisAllowedCounter, redisDeniedCounter);
         }
-
-        // Check hour limit
-        RateLimitResult hourResult = checkRateLimit(ipAddress, ipConfig.getRequestPerHour(), 3600);
-
-        if (!hourResult.isAllowed()) {
-            // Block IP for configured duration
-            blockIp(ipAddress, ipConfig.getBlockedDurationMinutes());
-            log.warn("IP {} blocked due to hour rate limit exceeded", ipAddress);
+        LocalRateLimiter.LocalBucket bucket = localRateLimiter.bucketFor(identifier, windows, checkBlock, blockSeconds);
+        if (bucket.claimPriming()) {
+            RateLimitResult result = evaluateWindows(identifier, windows, checkBlock, blockSeconds, 1, false);
+            bucket.reconcile(result);
+            return countDecision(result, redisAllowedCounter, redisDeniedCounter);
         }
+        return countDecision(bucket.tryAcquire(), localAllowedCounter, localDeniedCounter);
+    }
 
-        return hourResult;
+    private RateLimitResult countDecision(RateLimitResult result, Counter allowedCounter, Counter deniedCounter) {
+        (result.isAllowed() ? allowedCounter : deniedCounter).increment();
+        return result;
     }
 
     /**
-     * Execute sliding window algorithm using Lua script
+     * Flush the requests admitted by the local pre-filter to Redis, one script call per identifier
      */
-    private RateLimitResult executeSlidingWindow(String key, int limit, int windowSeconds, long currentTime) {
-        @SuppressWarnings("unchecked")
-        List<Long> result = redisTemplate.execute(slidingWindowScript,
-                Arrays.asList(key),
-                windowSeconds, limit, currentTime);
-
-        boolean allowed = result.get(0) == 1;
-        long remaining = result.get(1);
-        long total = result.get(2);
-
-        LocalDateTime resetTime = LocalDateTime.ofEpochSecond(currentTime + windowSeconds, 0, ZoneOffset.UTC);
-
-        log.debug("Sliding window result for key {}: allowed={}, remaining={}, total={}",
-                key, allowed, remaining, total);
-
-        return new RateLimitResult(allowed, remaining, total, windowSeconds, resetTime, RateLimitType.IP_BASED.getValue());
+    @Scheduled(fixedDelayString = "${rate-limiting.local-pre-filter.flush-interval-ms:1000}")
+    public void flushLocalCounts() {
+        if (!localRateLimiter.isEnabled()) {
+            return;
+        }
+        localRateLimiter.drain((bucket, pending) -> evaluateWindows(
+                bucket.getIdentifier(),
+                bucket.getWindows(),
+                bucket.isCheckBlock(),
+                bucket.getBlockSeconds(),
+                pending,
+                true
+        ));
     }
 
     /**
-     * Block IP address
+     * Execute the Lua script of the configured algorithm and map its composite result. A reconcile call
+     * reports requests the local pre-filter already admitted, so the script records them even when the
+     * verdict is a deny.
      */
-    private void blockIp(String ipAddress, int durationMinutes) {
-        String blockKey = generateKey(ipAddress, "blocked");
-        redisTemplate.opsForValue().set(blockKey, "blocked", durationMinutes, TimeUnit.MINUTES);
-        log.warn("IP address blocked: {} for {} minutes", ipAddress, durationMinutes);
+    private RateLimitResult evaluateWindows(String identifier, List<RateLimitWindow> windows, boolean checkBlock, int blockSeconds, long cost, boolean reconcile) {
+        RateLimitAlgorithm algorithm = rateLimitProperties.getAlgorithm();
+
+        List<String> keys = new ArrayList<>(windows.size() + 1);
+        Object[] args = new Object[4 + windows.size() * 2];
+        keys.add(generateKey(identifier, BLOCKED_SUFFIX));
+        args[0] = checkBlock ? 1 : 0;
+        args[1] = blockSeconds;
+        args[2] = cost;
+        args[3] = reconcile ? 1 : 0;
+        for (int i = 0; i < windows.size(); i++) {
+            RateLimitWindow window = windows.get(i);
+            keys.add(generateWindowKey(identifier, window.getWindowSeconds(), algorithm));
+            args[4 + i * 2] = window.getWindowSeconds();
+            args[5 + i * 2] = window.getLimit();
+        }
+
+        try {
+            @SuppressWarnings("unchecked")
+            List<Long> result = redisTemplate.execute(scripts.get(algorithm), keys, args);
+            return toRateLimitResult(identifier, windows, result);
+        } catch (Exception e) {
+            log.error("Error checking rate limit for identifier: {}", identifier, e);
+            failOpenCounter.increment();
+            // Fail open - allow request if Redis is down
+            return allowedResult(windows.get(0));
+        }
     }
 
-    /**
-     * Check if IP is blocked
-     */
-    private boolean isIpBlocked(String ipAddress) {
-        String blockKey = generateKey(ipAddress, "blocked");
-        boolean blocked = Boolean.TRUE.equals(redisTemplate.hasKey(blockKey));
-        if (blocked) {
-            log.debug("IP {} is currently blocked", ipAddress);
+    private RateLimitResult toRateLimitResult(String identifier, List<RateLimitWindow> windows, List<Long> result) {
+        long status = result.get(0);
+        LocalDateTime resetTime = LocalDateTime.now(ZoneOffset.UTC).plus(result.get(4), ChronoUnit.MILLIS);
+        if (status == STATUS_BLOCKED) {
+            long blockSeconds = result.get(4) / 1000;
+            log.debug("IP {} is currently blocked for another {} seconds", identifier, blockSeconds);
+            return new RateLimitResult(false, 0, 0, blockSeconds, resetTime, RateLimitType.IP_BASED.getValue());
+        }
+
+        RateLimitWindow window = windows.get(result.get(1).intValue() - 1);
+        boolean allowed = status == STATUS_ALLOWED;
+        long remaining = result.get(2);
+        long total = result.get(3);
+
+        if (!allowed) {
+            log.warn("Rate limit exceeded for {} on the {} seconds window", identifier, window.getWindowSeconds());
         }
-        return blocked;
+        log.debug("Rate limit result for {}: allowed={}, remaining={}, total={}", identifier, allowed, remaining, total);
+
+        return new RateLimitResult(allowed, remaining, total, window.getWindowSeconds(), resetTime, RateLimitType.IP_BASED.getValue());
     }
 
     /**
      * Unblock IP address (admin function)
      */
     public boolean unblockIp(String ipAddress) {
-        String blockKey = generateKey(ipAddress, "blocked");
+        String blockKey = generateKey(ipAddress, BLOCKED_SUFFIX);
         Boolean deleted = redisTemplate.delete(blockKey);
+        localRateLimiter.invalidate(ipAddress);
         if (Boolean.TRUE.equals(deleted)) {
             log.info("IP address unblocked: {}", ipAddress);
             return true;
@@ -207,7 +256,7 @@ public class RateLimitService {
      * Get IP block status
      */
     public BlockStatus getIpBlockStatus(String ipAddress) {
-        String blockKey = generateKey(ipAddress, "blocked");
+        String blockKey = generateKey(ipAddress, BLOCKED_SUFFIX);
         if (Boolean.TRUE.equals(redisTemplate.hasKey(blockKey))) {
             Long ttl = redisTemplate.getExpire(blockKey, TimeUnit.SECONDS);
             return new BlockStatus(true, ttl != null ? ttl : 0);
@@ -230,16 +279,21 @@ public class RateLimitService {
     }
 
     /**
-     * Helper methods
+     * Generate the Redis key of one window, each algorithm keeps its own key type
      */
-    private RateLimitResult allowedResult(int limit, int windowSeconds) {
-        return new RateLimitResult(true, limit - 1, 1, windowSeconds,
-                LocalDateTime.now().plusSeconds(windowSeconds), RateLimitType.IP_BASED.getValue());
+    private String generateWindowKey(String identifier, int windowSeconds, RateLimitAlgorithm algorithm) {
+        if (algorithm.getKeySuffix() == null) {
+            return generateKey(identifier, windowSeconds);
+        }
+        return generateKey(identifier, windowSeconds, algorithm.getKeySuffix());
     }
 
-    private RateLimitResult blockedResult() {
-        return new RateLimitResult(false, 0, 0, 60,
-                LocalDateTime.now().plusMinutes(1), RateLimitType.IP_BASED.getValue());
+    /**
+     * Helper methods
+     */
+    private RateLimitResult allowedResult(RateLimitWindow window) {
+        return new RateLimitResult(true, window.getLimit() - 1, 1, window.getWindowSeconds(),
+                LocalDateTime.now().plusSeconds(window.getWindowSeconds()), RateLimitType.IP_BASED.getValue());
     }
 
     /**
@@ -247,17 +301,16 @@ public class RateLimitService {
      */
     public RateLimitStats getRateLimitStats(String ipAddress) {
         try {
-            String minuteKey = generateKey(ipAddress, 60);
-            String hourKey = generateKey(ipAddress, 3600);
-
-            Long minuteCount = redisTemplate.opsForZSet().zCard(minuteKey);
-            Long hourCount = redisTemplate.opsForZSet().zCard(hourKey);
+            RateLimitAlgorithm algorithm = rateLimitProperties.getAlgorithm();
+            RateLimitProperties.IpRateLimit ipConfig = rateLimitProperties.getIpRateLimit();
+            String minuteKey = generateWindowKey(ipAddress, 60, algorithm);
+            String hourKey = generateWindowKey(ipAddress, 3600, algorithm);
 
             return new RateLimitStats(
                     ipAddress,
                     "ip",
-                    minuteCount != null ? minuteCount : 0,
-                    hourCount != null ? hourCount : 0,
+                    currentCount(minuteKey, algorithm, new RateLimitWindow(ipConfig.getRequestPerMinute(), 60)),
+                    currentCount(hourKey, algorithm, new RateLimitWindow(ipConfig.getRequestPerHour(), 3600)),
                     redisTemplate.getExpire(minuteKey, TimeUnit.SECONDS),
                     redisTemplate.getExpire(hourKey, TimeUnit.SECONDS)
             );
@@ -267,15 +320,41 @@ public class RateLimitService {
         }
     }
 
+    private long currentCount(String key, RateLimitAlgorithm algorithm, RateLimitWindow window) {
+        switch (algorithm) {
+            case SLIDING_WINDOW_COUNTER -> {
+                Object count = redisTemplate.opsForHash().get(key, "c");
+                return count != null ? Long.parseLong(count.toString()) : 0;
+            }
+            case GCRA -> {
+                Object tat = redisTemplate.opsForValue().get(key);
+                if (tat == null) {
+                    return 0;
+                }
+                long backlogMillis = Long.parseLong(tat.toString()) - System.currentTimeMillis();
+                long intervalMillis = window.getWindowSeconds() * 1000L / window.getLimit();
+                return backlogMillis > 0 ? (backlogMillis + intervalMillis - 1) / intervalMillis : 0;
+            }
+            default -> {
+                Long count = redisTemplate.opsForZSet().zCard(key);
+                return count != null ? count : 0;
+            }
+        }
+    }
+
     /**
      * Clear rate limit for IP
      */
     public boolean clearRateLimit(String ipAddress) {
         try {
-            String minuteKey = generateKey(ipAddress, 60);
-            String hourKey = generateKey(ipAddress, 3600);
-
-            Long deleted = redisTemplate.delete(Arrays.asList(minuteKey, hourKey));
+            List<String> keys = new ArrayList<>();
+            for (RateLimitAlgorithm algorithm : RateLimitAlgorithm.values()) {
+                keys.add(generateWindowKey(ipAddress, 60, algorithm));
+                keys.add(generateWindowKey(ipAddress, 3600, algorithm));
+            }
+
+            Long deleted = redisTemplate.delete(keys);
+            localRateLimiter.invalidate(ipAddress);
             log.info("Cleared rate limit for IP {}: {} keys deleted", ipAddress, deleted);
             return deleted != null && deleted > 0;
         } catch (Exception e) {
@@ -0,0 +1,122 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.application.service;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: VirtualThreadPinningMonitor
+ */
+
+import com.revquix.backend.application.properties.VirtualThreadProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Streams JFR {@code jdk.VirtualThreadPinned} events in-process while virtual threads are on. On
+ * Java 21 a virtual thread that blocks inside {@code synchronized} (or a native frame) keeps its
+ * carrier thread, so a few long pins can starve the whole scheduler; each reported pin is logged
+ * with the frames that held it and counted in {@code revquix.virtual.threads.pinned}.
+ */
+@Service
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final VirtualThreadProperties virtualThreadProperties;
+    private final MeterRegistry meterRegistry;
+
+    private RecordingStream recordingStream;
+    private Counter pinnedCounter;
+
+    @PostConstruct
+    public void start() {
+        VirtualThreadProperties.PinningDiagnostics diagnostics = virtualThreadProperties.getPinningDiagnostics();
+        if (!diagnostics.isEnabled()) {
+            return;
+        }
+        pinnedCounter = Counter.builder("revquix.virtual.threads.pinned")
+                .description("Virtual thread pins longer than the diagnostics threshold")
+                .register(meterRegistry);
+        try {
+            recordingStream = new RecordingStream();
+            recordingStream.enable(PINNED_EVENT)
+                    .withThreshold(Duration.ofMillis(diagnostics.getThresholdMs()))
+                    .withStackTrace();
+            recordingStream.onEvent(PINNED_EVENT, this::report);
+            recordingStream.startAsync();
+            log.info("{}::start -> Watching for virtual thread pins longer than {}ms", getClass().getSimpleName(), diagnostics.getThresholdMs());
+        } catch (Exception exception) {
+            log.warn("{}::start -> JFR unavailable, pinning diagnostics disabled: {}", getClass().getSimpleName(), exception.getMessage());
+        }
+    }
+
+    private void report(RecordedEvent event) {
+        pinnedCounter.increment();
+        StringBuilder frames = new StringBuilder();
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace != null) {
+            List<RecordedFrame> recordedFrames = stackTrace.getFrames();
+            int limit = Math.min(recordedFrames.size(), virtualThreadProperties.getPinningDiagnostics().getMaxFrames());
+            for (int i = 0; i < limit; i++) {
+                RecordedFrame frame = recordedFrames.get(i);
+                frames.append("\n\tat ")
+                        .append(frame.getMethod().getType().getName())
+                        .append('.')
+                        .append(frame.getMethod().getName())
+                        .append(':')
+                        .append(frame.getLineNumber());
+            }
+        }
+        log.warn("{}::report -> Virtual thread pinned for {}ms{}", getClass().getSimpleName(), event.getDuration().toMillis(), frames);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.application.utils;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: ErrorResponseWriter
+ */
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.revquix.backend.application.constants.ServiceConstants;
+import com.revquix.backend.application.exception.ErrorData;
+import com.revquix.backend.application.payload.ExceptionResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.experimental.UtilityClass;
+import org.slf4j.MDC;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Writes {@link ExceptionResponse} bodies for errors raised outside Spring MVC (security filters and
+ * interceptors) without going through an {@code ObjectMapper}. The static part of every
+ * {@link ErrorData} is encoded once, and only the breadcrumb and the dynamic fields are escaped per
+ * request. The output matches what Jackson produces for an {@code ExceptionResponse} built with its
+ * builder.
+ */
+@UtilityClass
+public class ErrorResponseWriter {
+
+    private static final JsonStringEncoder ENCODER = JsonStringEncoder.getInstance();
+
+    private static final byte[] MESSAGE_FIELD = ascii("{\"message\":");
+    private static final byte[] LOCALIZED_MESSAGE_FIELD = ascii(",\"localizedMessage\":");
+    private static final byte[] HTTP_STATUS_FIELD = ascii(",\"httpStatus\":");
+    private static final byte[] ERROR_TYPE_FIELD = ascii(",\"errorType\":");
+    private static final byte[] TOKEN_EXPIRED_TAIL = ascii(",\"timestamp\":null,\"isTokenExpired\":true}");
+    private static final byte[] TOKEN_VALID_TAIL = ascii(",\"timestamp\":null,\"isTokenExpired\":false}");
+    private static final byte[] NULL = ascii("null");
+    private static final byte QUOTE = '"';
+
+    private static final Map<ErrorData, byte[]> MESSAGE_TEMPLATES = new EnumMap<>(ErrorData.class);
+    private static final Map<ErrorData, byte[]> CODE_TEMPLATES = new EnumMap<>(ErrorData.class);
+
+    static {
+        for (ErrorData errorData : ErrorData.values()) {
+            MESSAGE_TEMPLATES.put(errorData, concat(MESSAGE_FIELD, quoted(errorData.getMessage())));
+            CODE_TEMPLATES.put(errorData, concat(ascii(",\"code\":"), quoted(errorData.getCode()), ascii(",\"breadcrumbId\":")));
+        }
+    }
+
+    /**
+     * Writes a filter-level error carrying the {@link ErrorData} message, with {@code httpStatus} and
+     * {@code errorType} left null as the security filters have always sent them.
+     */
+    public static void write(HttpServletResponse response, HttpStatus status, ErrorData errorData, String localizedMessage, boolean tokenExpired) throws IOException {
+        OutputStream output = prepare(response, status);
+        output.write(MESSAGE_TEMPLATES.get(errorData));
+        writeBody(output, errorData, MDC.get(ServiceConstants.BREADCRUMB_ID), localizedMessage, null, null, tokenExpired);
+    }
+
+    /**
+     * Writes a data error with a caller supplied message, filling {@code httpStatus} and
+     * {@code errorType} as the rate limiter does.
+     */
+    public static void writeDataError(HttpServletResponse response, HttpStatus status, ErrorData errorData, String message, String localizedMessage) throws IOException {
+        OutputStream output = prepare(response, status);
+        if (message == null || message.equals(errorData.getMessage())) {
+            output.write(MESSAGE_TEMPLATES.get(errorData));
+        } else {
+            output.write(MESSAGE_FIELD);
+            writeString(output, message);
+        }
+        writeBody(output, errorData, MdcUtils.getBreadcrumbId(), localizedMessage, status.name(), ServiceConstants.DATA_ERROR, false);
+    }
+
+    private static OutputStream prepare(HttpServletResponse response, HttpStatus status) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        return response.getOutputStream();
+    }
+
+    private static void writeBody(OutputStream output, ErrorData errorData, String breadcrumbId, String localizedMessage, String httpStatus, String errorType, boolean tokenExpired) throws IOException {
+        output.write(CODE_TEMPLATES.get(errorData));
+        writeString(output, breadcrumbId);
+        output.write(LOCALIZED_MESSAGE_FIELD);
+        writeString(output, localizedMessage);
+        output.write(HTTP_STATUS_FIELD);
+        writeString(output, httpStatus);
+        output.write(ERROR_TYPE_FIELD);
+        writeString(output, errorType);
+        output.write(tokenExpired ? TOKEN_EXPIRED_TAIL : TOKEN_VALID_TAIL);
+        output.flush();
+    }
+
+    private static void writeString(OutputStream output, String value) throws IOException {
+        if (value == null) {
+            output.write(NULL);
+            return;
+        }
+        output.write(QUOTE);
+        output.write(ENCODER.quoteAsUTF8(value));
+        output.write(QUOTE);
+    }
+
+    private static byte[] quoted(String value) {
+        return concat(new byte[]{QUOTE}, ENCODER.quoteAsUTF8(value), new byte[]{QUOTE});
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        int length = 0;
+        for (byte[] part : parts) {
+            length += part.length;
+        }
+        byte[] result = new byte[length];
+        int offset = 0;
+        for (byte[] part : parts) {
+            System.arraycopy(part, 0, result, offset, part.length);
+            offset += part.length;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,180 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.application.utils;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: GeoLocationIndex
+ */
+
+import com.revquix.backend.application.payload.GeoLocation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only view over a geolocation index file. The file is mapped once and searched in place with
+ * absolute reads, so concurrent lookups need no locking and allocate only the returned location.
+ * <p>
+ * Layout (big-endian):
+ * <pre>
+ *   int magic, int version, int rangeCount, int locationCount
+ *   rangeCount    x { int start, int end, int locationId }   sorted by start, unsigned, non-overlapping
+ *   locationCount x { int offset }                           absolute offset of each location record
+ *   location records: { short length, UTF-8 city, short length, UTF-8 country }
+ * </pre>
+ */
+public final class GeoLocationIndex {
+
+    public static final int MAGIC = 0x52514749;
+    public static final int VERSION = 1;
+    public static final int HEADER_BYTES = 16;
+    public static final int RANGE_BYTES = 12;
+
+    private final ByteBuffer buffer;
+    private final int rangeCount;
+    private final int locationCount;
+    private final int locationOffsetsStart;
+
+    private GeoLocationIndex(ByteBuffer buffer) {
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Not a geolocation index or unsupported version");
+        }
+        this.buffer = buffer;
+        this.rangeCount = buffer.getInt(8);
+        this.locationCount = buffer.getInt(12);
+        this.locationOffsetsStart = HEADER_BYTES + rangeCount * RANGE_BYTES;
+    }
+
+    public static GeoLocationIndex open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new GeoLocationIndex(mapped);
+        }
+    }
+
+    public int size() {
+        return rangeCount;
+    }
+
+    public GeoLocation find(String ipAddress) {
+        long ip = parseIpv4(ipAddress);
+        if (ip < 0) {
+            return GeoLocation.UNKNOWN;
+        }
+        int low = 0;
+        int high = rangeCount - 1;
+        int candidate = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (Integer.toUnsignedLong(buffer.getInt(HEADER_BYTES + mid * RANGE_BYTES)) <= ip) {
+                candidate = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (candidate < 0) {
+            return GeoLocation.UNKNOWN;
+        }
+        int rangeOffset = HEADER_BYTES + candidate * RANGE_BYTES;
+        if (Integer.toUnsignedLong(buffer.getInt(rangeOffset + 4)) < ip) {
+            return GeoLocation.UNKNOWN;
+        }
+        int locationId = buffer.getInt(rangeOffset + 8);
+        if (locationId < 0 || locationId >= locationCount) {
+            return GeoLocation.UNKNOWN;
+        }
+        int recordOffset = buffer.getInt(locationOffsetsStart + locationId * 4);
+        int cityLength = Short.toUnsignedInt(buffer.getShort(recordOffset));
+        String city = readString(recordOffset + 2, cityLength);
+        int countryOffset = recordOffset + 2 + cityLength;
+        String country = readString(countryOffset + 2, Short.toUnsignedInt(buffer.getShort(countryOffset)));
+        return new GeoLocation(city, country, true);
+    }
+
+    private String readString(int offset, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parses a dotted-quad IPv4 address into an unsigned value, or returns {@code -1} for anything else
+     * (IPv6, host names, malformed input). Never performs a DNS lookup.
+     */
+    public static long parseIpv4(String ipAddress) {
+        if (ipAddress == null) {
+            return -1;
+        }
+        long result = 0;
+        int octet = -1;
+        int dots = 0;
+        for (int i = 0; i < ipAddress.length(); i++) {
+            char c = ipAddress.charAt(i);
+            if (c == '.') {
+                if (octet < 0 || ++dots > 3) {
+                    return -1;
+                }
+                result = (result << 8) | octet;
+                octet = -1;
+            } else if (c >= '0' && c <= '9') {
+                octet = (octet < 0 ? 0 : octet * 10) + (c - '0');
+                if (octet > 255) {
+                    return -1;
+                }
+            } else {
+                return -1;
+            }
+        }
+        if (dots != 3 || octet < 0) {
+            return -1;
+        }
+        return (result << 8) | octet;
+    }
+
+    /**
+     * True for loopback, private and link-local IPv4 ranges, which no provider can place.
+     */
+    public static boolean isNonRoutable(long ip) {
+        long firstOctet = ip >>> 24;
+        long secondOctet = (ip >>> 16) & 0xFF;
+        return firstOctet == 10
+                || firstOctet == 127
+                || (firstOctet == 172 && secondOctet >= 16 && secondOctet <= 31)
+                || (firstOctet == 192 && secondOctet == 168)
+                || (firstOctet == 169 && secondOctet == 254);
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.application.utils;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: LogMaskingModifier
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Replaces credential-bearing properties with a fixed mask when a {@link ModelPayload} is rendered
+ * for logging. Only the log mapper registers this modifier, so API responses and cache payloads are
+ * unaffected.
+ */
+final class LogMaskingModifier extends BeanSerializerModifier {
+
+    private static final String MASK = "****";
+
+    private static final Set<String> MASKED_PROPERTIES = Set.of(
+            "password",
+            "otp",
+            "token",
+            "mfaToken",
+            "accessToken",
+            "refreshToken"
+    );
+
+    @Override
+    public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc, List<BeanPropertyWriter> beanProperties) {
+        for (int i = 0; i < beanProperties.size(); i++) {
+            BeanPropertyWriter writer = beanProperties.get(i);
+            if (MASKED_PROPERTIES.contains(writer.getName())) {
+                beanProperties.set(i, new MaskedPropertyWriter(writer));
+            }
+        }
+        return beanProperties;
+    }
+
+    private static final class MaskedPropertyWriter extends BeanPropertyWriter {
+
+        private MaskedPropertyWriter(BeanPropertyWriter base) {
+            super(base);
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+            Object value = get(bean);
+            gen.writeFieldName(_name);
+            if (value == null) {
+                gen.writeNull();
+            } else {
+                gen.writeString(MASK);
+            }
+        }
+    }
+}
@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -40,13 +40,12 @@ public class MaskingSerializer extends JsonSerializer<String> {
 
     @Override
     public void serialize(String value, com.fasterxml.jackson.core.JsonGenerator gen, com.fasterxml.jackson.databind.SerializerProvider serializers) throws java.io.IOException {
-        if (value != null && value.length() <= 4) {
+        if (value == null) {
+            gen.writeNull();
+        } else if (value.length() <= 4) {
             gen.writeString("****");
-        } else if (value.length() > 4) {
-            String masked = "****" + value.substring(value.length() - 4);
-            gen.writeString(masked);
         } else {
-            gen.writeNull();
+            gen.writeString("****" + value.substring(value.length() - 4));
         }
     }
 }
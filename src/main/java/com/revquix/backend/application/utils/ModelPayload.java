@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -36,6 +36,8 @@ package com.revquix.backend.application.utils;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.Data;
 import lombok.SneakyThrows;
@@ -43,19 +45,35 @@ import lombok.SneakyThrows;
 /**
  * SanaPayload is an abstract class that provides a method to convert its subclasses to JSON format.
  * It uses the Jackson library for JSON serialization.
+ * <p>
+ * The mapper is configured once and a pre-resolved {@link ObjectWriter} is cached per payload type.
+ * Credential fields are masked by {@link LogMaskingModifier}. Use {@link #lazyJson()} as a log
+ * argument so the payload is only serialized when the message is actually written.
  *
  * @param <A> the type of the subclass extending SanaPayload
  */
 @Data
 public abstract class ModelPayload<A> {
 
-    static final ObjectMapper objectMapper = new ObjectMapper();
+    static final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new SimpleModule().setSerializerModifier(new LogMaskingModifier()));
+
+    private static final ClassValue<ObjectWriter> WRITERS = new ClassValue<>() {
+        @Override
+        protected ObjectWriter computeValue(Class<?> type) {
+            return objectMapper.writerFor(type);
+        }
+    };
 
     @SneakyThrows(
             value = {JsonProcessingException.class}
     )
     public String toJson() {
-        objectMapper.registerModule(new JavaTimeModule());
-        return objectMapper.writeValueAsString(this);
+        return WRITERS.get(getClass()).writeValueAsString(this);
+    }
+
+    public Object lazyJson() {
+        return new LazyJson(this);
     }
 }
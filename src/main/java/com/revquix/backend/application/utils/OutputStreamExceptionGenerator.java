@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -27,15 +27,11 @@
  */
 package com.revquix.backend.application.utils;
 
-import com.revquix.backend.application.constants.ServiceConstants;
 import com.revquix.backend.application.exception.ErrorData;
-import com.revquix.backend.application.payload.ExceptionResponse;
-import com.revquix.backend.application.payload.OutputStreamErrorPayload;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.SneakyThrows;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
-import org.slf4j.MDC;
 import org.springframework.http.HttpStatus;
 
 import java.io.IOException;
@@ -46,14 +42,7 @@ public class OutputStreamExceptionGenerator {
 
     @SneakyThrows(value = {IOException.class})
     public static void generateExceptionResponse(ErrorData errorData, HttpStatus httpStatus, HttpServletResponse httpServletResponse) {
-        ExceptionResponse exceptionResponse = ExceptionResponse
-                .builder()
-                .code(errorData.getCode())
-                .message(errorData.getMessage())
-                .breadcrumbId(MDC.get(ServiceConstants.BREADCRUMB_ID))
-                .isTokenExpired(false)
-                .build();
-        OutputStreamUtil.getOutputStream(new OutputStreamErrorPayload(httpStatus, exceptionResponse, httpServletResponse));
-        log.error("ExceptionResponseGenerator -> {}", exceptionResponse.toString());
+        ErrorResponseWriter.write(httpServletResponse, httpStatus, errorData, null, false);
+        log.error("ExceptionResponseGenerator -> {} {}", errorData.getCode(), errorData.getMessage());
     }
 }
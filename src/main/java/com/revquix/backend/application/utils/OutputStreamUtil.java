@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -38,13 +38,14 @@ import java.io.OutputStream;
 @UtilityClass
 public class OutputStreamUtil {
 
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
     public static void getOutputStream(OutputStreamErrorPayload outputStreamErrorPayload) throws IOException {
         HttpServletResponse httpServletResponse = outputStreamErrorPayload.getHttpServletResponse();
         httpServletResponse.setStatus(outputStreamErrorPayload.getHttpStatus().value());
         httpServletResponse.setContentType("application/json");
         OutputStream output = httpServletResponse.getOutputStream();
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writeValue(output, outputStreamErrorPayload.getData());
+        MAPPER.writeValue(output, outputStreamErrorPayload.getData());
         output.flush();
     }
 }
@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -34,6 +34,7 @@ package com.revquix.backend.application.utils;
   File: SpringContextBridge
  */
 
+import com.revquix.backend.application.dao.PooledSequenceAllocator;
 import com.revquix.backend.application.dao.SequenceGeneratorDao;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -42,13 +43,19 @@ import org.springframework.stereotype.Component;
 public class SequenceEntityContextBridge {
 
     private static SequenceGeneratorDao sequenceService;
+    private static PooledSequenceAllocator sequenceAllocator;
 
     @Autowired
-    public SequenceEntityContextBridge(SequenceGeneratorDao injectedService) {
+    public SequenceEntityContextBridge(SequenceGeneratorDao injectedService, PooledSequenceAllocator injectedAllocator) {
         SequenceEntityContextBridge.sequenceService = injectedService;
+        SequenceEntityContextBridge.sequenceAllocator = injectedAllocator;
     }
 
     public static SequenceGeneratorDao getSequenceService() {
         return sequenceService;
     }
+
+    public static PooledSequenceAllocator getSequenceAllocator() {
+        return sequenceAllocator;
+    }
 }
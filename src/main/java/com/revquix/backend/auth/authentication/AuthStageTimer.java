@@ -0,0 +1,68 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.auth.authentication;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: AuthStageTimer
+ */
+
+import com.revquix.backend.auth.enums.AuthStage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * One timer per {@link AuthStage}, registered up front with a percentile histogram so each stage's
+ * tail latency can be read straight off the scrape. Failed calls are recorded as well.
+ */
+@Component
+public class AuthStageTimer {
+
+    private final Map<AuthStage, Timer> timers = new EnumMap<>(AuthStage.class);
+
+    public AuthStageTimer(MeterRegistry meterRegistry) {
+        for (AuthStage stage : AuthStage.values()) {
+            timers.put(stage, Timer.builder("revquix.auth.stage")
+                    .description("Time spent in one step of the authentication pipeline")
+                    .tag("stage", stage.getTag())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    public <T> T record(AuthStage stage, Supplier<T> step) {
+        return timers.get(stage).record(step);
+    }
+}
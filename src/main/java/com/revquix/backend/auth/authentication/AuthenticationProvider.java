@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -36,6 +36,7 @@ package com.revquix.backend.auth.authentication;
 
 import com.revquix.backend.application.exception.ErrorData;
 import com.revquix.backend.application.exception.payload.AuthenticationException;
+import com.revquix.backend.auth.enums.AuthStage;
 import com.revquix.backend.auth.payload.UserIdentity;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -53,6 +54,9 @@ public class AuthenticationProvider extends DaoAuthenticationProvider {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private AuthStageTimer authStageTimer;
+
     @Override
     public Authentication authenticate(Authentication authentication) {
         String username = authentication.getPrincipal().toString();
@@ -67,8 +71,8 @@ public class AuthenticationProvider extends DaoAuthenticationProvider {
 
     private UsernamePasswordAuthenticationToken generateAuthentication(String username, String password) {
         log.debug("{}::generateAuthentication -> Generating authentication token for username: {}", getClass().getSimpleName(), username);
-        UserIdentity userIdentity = (UserIdentity) userDetailsService.loadUserByUsername(username);
-        if (!passwordEncoder.matches(password, userIdentity.getPassword())) {
+        UserIdentity userIdentity = authStageTimer.record(AuthStage.USER_LOOKUP, () -> (UserIdentity) userDetailsService.loadUserByUsername(username));
+        if (!authStageTimer.record(AuthStage.PASSWORD_MATCH, () -> passwordEncoder.matches(password, userIdentity.getPassword()))) {
             throw new AuthenticationException(ErrorData.INCORRECT_PASSWORD);
         }
         validate(userIdentity);
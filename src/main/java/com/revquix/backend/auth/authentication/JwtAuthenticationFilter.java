@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -36,9 +36,8 @@ package com.revquix.backend.auth.authentication;
 
 import com.revquix.backend.application.constants.ServiceConstants;
 import com.revquix.backend.application.exception.ErrorData;
-import com.revquix.backend.application.payload.ExceptionResponse;
-import com.revquix.backend.application.payload.OutputStreamErrorPayload;
-import com.revquix.backend.application.utils.OutputStreamUtil;
+import com.revquix.backend.application.utils.ErrorResponseWriter;
+import com.revquix.backend.auth.enums.AuthStage;
 import com.revquix.backend.auth.payload.UserIdentity;
 import com.revquix.backend.auth.util.TokenExtractorUtil;
 import jakarta.servlet.FilterChain;
@@ -47,7 +46,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.slf4j.MDC;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -71,6 +69,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtDecoder jwtDecoder;
     private final TokenAuthenticationHelper tokenAuthenticationHelper;
+    private final AuthStageTimer authStageTimer;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -85,11 +84,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
         try {
-            Jwt jwt = jwtDecoder.decode(token);
+            Jwt jwt = authStageTimer.record(AuthStage.JWT_DECODE, () -> jwtDecoder.decode(token));
             if (isExpired(jwt)) {
                 handleExpiredToken(response);
                 return;
             }
+            request.setAttribute(ServiceConstants.DECODED_JWT, jwt);
         } catch (JwtValidationException exception) {
             handleJwtValidationException(exception, response);
             return;
@@ -121,31 +121,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 break;
             }
         }
-        ExceptionResponse exceptionResponse = ExceptionResponse
-                .builder()
-                .code(
-                        isExpired ? ErrorData.TOKEN_EXPIRED.getCode() : ErrorData.MALFORMED_TOKEN.getCode())
-                .message(
-                        isExpired ? ErrorData.TOKEN_EXPIRED.getMessage() : ErrorData.MALFORMED_TOKEN.getMessage()
-                )
-                .breadcrumbId(MDC.get(ServiceConstants.BREADCRUMB_ID))
-                .isTokenExpired(isExpired)
-                .localizedMessage(exception.getMessage())
-                .build();
-        OutputStreamUtil.getOutputStream(new OutputStreamErrorPayload(HttpStatus.FORBIDDEN, exceptionResponse, response));
+        ErrorResponseWriter.write(response, HttpStatus.FORBIDDEN, isExpired ? ErrorData.TOKEN_EXPIRED : ErrorData.MALFORMED_TOKEN, exception.getMessage(), isExpired);
     }
 
     private void handleException(Exception exception, HttpServletResponse response) throws IOException {
         log.error("JwtAuthenticationFilter::handleException -> Exception Occurred", exception);
-        ExceptionResponse exceptionResponse = ExceptionResponse
-                .builder()
-                .code(ErrorData.MALFORMED_TOKEN.getCode())
-                .message(ErrorData.MALFORMED_TOKEN.getMessage())
-                .breadcrumbId(MDC.get(ServiceConstants.BREADCRUMB_ID))
-                .isTokenExpired(false)
-                .localizedMessage(exception.getMessage())
-                .build();
-        OutputStreamUtil.getOutputStream(new OutputStreamErrorPayload(HttpStatus.UNAUTHORIZED, exceptionResponse, response));
+        ErrorResponseWriter.write(response, HttpStatus.UNAUTHORIZED, ErrorData.MALFORMED_TOKEN, exception.getMessage(), false);
     }
 
     private boolean isExpired(Jwt jwt) {
@@ -159,13 +140,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     private void handleExpiredToken(HttpServletResponse response) throws IOException {
-        ExceptionResponse exceptionResponse = ExceptionResponse
-                .builder()
-                .code(ErrorData.TOKEN_EXPIRED.getCode())
-                .message(ErrorData.TOKEN_EXPIRED.getMessage())
-                .breadcrumbId(MDC.get(ServiceConstants.BREADCRUMB_ID))
-                .isTokenExpired(true)
-                .build();
-        OutputStreamUtil.getOutputStream(new OutputStreamErrorPayload(HttpStatus.UNAUTHORIZED, exceptionResponse, response));
+        ErrorResponseWriter.write(response, HttpStatus.UNAUTHORIZED, ErrorData.TOKEN_EXPIRED, null, true);
     }
 }
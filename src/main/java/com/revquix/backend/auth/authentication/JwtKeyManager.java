@@ -0,0 +1,222 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.auth.authentication;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: JwtKeyManager
+ */
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.revquix.backend.application.exception.ErrorData;
+import com.revquix.backend.application.exception.payload.InternalServerException;
+import com.revquix.backend.auth.properties.AuthenticationProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.stereotype.Component;
+
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Owns the JWT signing keys. Keys are loaded from the keystore once, the key ring in use is an
+ * immutable snapshot that is only swapped when the scheduled rotation check selects a different
+ * signing key or verification set. A superseded key keeps verifying tokens for the grace period.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JwtKeyManager {
+
+    private final KeyProvider keyProvider;
+    private final AuthenticationProperties authenticationProperties;
+
+    private final AtomicReference<KeyRing> keyRing = new AtomicReference<>();
+    private List<LoadedKey> loadedKeys = List.of();
+
+    @PostConstruct
+    public void init() {
+        List<AuthenticationProperties.SigningKey> configuredKeys = authenticationProperties.getSigningKeys().getKeys();
+        List<LoadedKey> keys = new ArrayList<>();
+        if (configuredKeys.isEmpty()) {
+            String alias = authenticationProperties.getKeyData().getAlias();
+            keys.add(load(alias, alias, null, SignatureAlgorithm.RS256, Instant.EPOCH));
+        } else {
+            for (AuthenticationProperties.SigningKey configuredKey : configuredKeys) {
+                keys.add(load(
+                        configuredKey.getKid(),
+                        configuredKey.getAlias(),
+                        configuredKey.getPassword(),
+                        configuredKey.getAlgorithm(),
+                        configuredKey.getActiveFrom() != null ? configuredKey.getActiveFrom() : Instant.EPOCH
+                ));
+            }
+        }
+        keys.sort(Comparator.comparing(LoadedKey::getActiveFrom));
+        this.loadedKeys = List.copyOf(keys);
+        rotate();
+    }
+
+    /**
+     * Re-evaluates which key signs and which keys verify, the snapshot is replaced only on change
+     */
+    @Scheduled(fixedDelayString = "${auth.signing-keys.rotation-check-interval-ms:60000}")
+    public void rotate() {
+        Instant now = Instant.now();
+        Duration gracePeriod = Duration.ofDays(authenticationProperties.getSigningKeys().getGracePeriodDays());
+
+        LoadedKey signingKey = loadedKeys.get(0);
+        for (LoadedKey loadedKey : loadedKeys) {
+            if (!loadedKey.getActiveFrom().isAfter(now)) {
+                signingKey = loadedKey;
+            }
+        }
+
+        List<JWK> verificationKeys = new ArrayList<>();
+        Set<String> verificationKids = new LinkedHashSet<>();
+        for (int i = 0; i < loadedKeys.size(); i++) {
+            LoadedKey loadedKey = loadedKeys.get(i);
+            Instant supersededAt = i + 1 < loadedKeys.size() ? loadedKeys.get(i + 1).getActiveFrom() : null;
+            boolean retired = supersededAt != null && supersededAt.plus(gracePeriod).isBefore(now);
+            if (!retired || loadedKey == signingKey) {
+                verificationKeys.add(loadedKey.getJwk().toPublicJWK());
+                verificationKids.add(loadedKey.getKid());
+            }
+        }
+
+        KeyRing current = keyRing.get();
+        if (current != null
+                && current.getSigningKid().equals(signingKey.getKid())
+                && current.getVerificationKids().equals(verificationKids)) {
+            return;
+        }
+        keyRing.set(new KeyRing(
+                signingKey.getKid(),
+                JwsHeader.with(signingKey.getAlgorithm()).keyId(signingKey.getKid()).build(),
+                new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(signingKey.getJwk()))),
+                new JWKSet(verificationKeys),
+                Set.copyOf(verificationKids)
+        ));
+        log.info("{}::rotate -> Signing with kid: {}, verifying with kids: {}", getClass().getSimpleName(), signingKey.getKid(), verificationKids);
+    }
+
+    public KeyRing current() {
+        return keyRing.get();
+    }
+
+    /**
+     * Verification keys for the decoder, always read from the current snapshot
+     */
+    public JWKSource<SecurityContext> verificationKeySource() {
+        return (jwkSelector, context) -> jwkSelector.select(keyRing.get().getVerificationKeys());
+    }
+
+    public Set<JWSAlgorithm> verificationAlgorithms() {
+        Set<JWSAlgorithm> algorithms = new LinkedHashSet<>();
+        for (LoadedKey loadedKey : loadedKeys) {
+            algorithms.add(JWSAlgorithm.parse(loadedKey.getAlgorithm().getName()));
+        }
+        return algorithms;
+    }
+
+    private LoadedKey load(String kid, String alias, String password, SignatureAlgorithm algorithm, Instant activeFrom) {
+        PrivateKey privateKey = keyProvider.getPrivateKey(alias, password);
+        PublicKey publicKey = keyProvider.getPublicKey(alias);
+        JWSAlgorithm jwsAlgorithm = JWSAlgorithm.parse(algorithm.getName());
+        JWK jwk;
+        if (publicKey instanceof RSAPublicKey rsaPublicKey && JWSAlgorithm.Family.RSA.contains(jwsAlgorithm)) {
+            jwk = new RSAKey.Builder(rsaPublicKey)
+                    .privateKey((RSAPrivateKey) privateKey)
+                    .keyID(kid)
+                    .keyUse(KeyUse.SIGNATURE)
+                    .algorithm(jwsAlgorithm)
+                    .build();
+        } else if (publicKey instanceof ECPublicKey ecPublicKey && JWSAlgorithm.Family.EC.contains(jwsAlgorithm)) {
+            jwk = new ECKey.Builder(Curve.forECParameterSpec(ecPublicKey.getParams()), ecPublicKey)
+                    .privateKey((ECPrivateKey) privateKey)
+                    .keyID(kid)
+                    .keyUse(KeyUse.SIGNATURE)
+                    .algorithm(jwsAlgorithm)
+                    .build();
+        } else {
+            log.error("{}::load -> Key {} of type {} can not sign {}", getClass().getSimpleName(), alias, publicKey.getAlgorithm(), algorithm);
+            throw new InternalServerException(ErrorData.EXCEPTION_WHILE_FETCHING_PRIVATE_KEY);
+        }
+        log.info("{}::load -> Loaded {} signing key {} active from {}", getClass().getSimpleName(), algorithm, kid, activeFrom);
+        return new LoadedKey(kid, algorithm, activeFrom, jwk);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class LoadedKey {
+        private final String kid;
+        private final SignatureAlgorithm algorithm;
+        private final Instant activeFrom;
+        private final JWK jwk;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class KeyRing {
+        private final String signingKid;
+        private final JwsHeader signingHeader;
+        private final JwtEncoder encoder;
+        private final JWKSet verificationKeys;
+        private final Set<String> verificationKids;
+    }
+}
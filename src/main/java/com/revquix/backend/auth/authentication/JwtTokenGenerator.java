@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -36,6 +36,7 @@ package com.revquix.backend.auth.authentication;
 
 import com.revquix.backend.application.constants.ServiceConstants;
 import com.revquix.backend.application.utils.IpUtils;
+import com.revquix.backend.auth.enums.AuthStage;
 import com.revquix.backend.auth.payload.UserIdentity;
 import com.revquix.backend.auth.payload.response.AccessTokenResponse;
 import com.revquix.backend.auth.payload.response.RefreshTokenResponse;
@@ -58,6 +59,7 @@ public class JwtTokenGenerator {
     private final JwtEncoder jwtEncoder;
     private final AuthenticationProperties authenticationProperties;
     private final IpUtils ipUtils;
+    private final AuthStageTimer authStageTimer;
 
     public AccessTokenResponse accessToken(String jti, UserIdentity userIdentity) {
         log.info("{}::accessToken -> Generating access token for userId: {}", JwtTokenGenerator.class.getSimpleName(), userIdentity.getUserId());
@@ -73,7 +75,7 @@ public class JwtTokenGenerator {
                 .claim(ServiceConstants.REMOTE_ADDRESS, ipUtils.getIpv4())
                 .id(jti)
                 .build();
-        String tokenValue = jwtEncoder.encode(JwtEncoderParameters.from(jwtClaimsSet)).getTokenValue();
+        String tokenValue = sign(jwtClaimsSet);
         Instant expiresAt = jwtClaimsSet.getExpiresAt();
         return AccessTokenResponse
                 .builder()
@@ -97,11 +99,15 @@ public class JwtTokenGenerator {
                 .claim(ServiceConstants.REMOTE_ADDRESS, ipUtils.getIpv4())
                 .issuer(ServiceConstants.REVQUIX_ISSUER)
                 .build();
-        String tokenValue = jwtEncoder.encode(JwtEncoderParameters.from(jwtClaimsSet)).getTokenValue();
+        String tokenValue = sign(jwtClaimsSet);
         return RefreshTokenResponse
                 .builder()
                 .refreshToken(tokenValue)
                 .expiresIn(jwtClaimsSet.getExpiresAt().toEpochMilli())
                 .build();
     }
+
+    private String sign(JwtClaimsSet jwtClaimsSet) {
+        return authStageTimer.record(AuthStage.TOKEN_SIGNING, () -> jwtEncoder.encode(JwtEncoderParameters.from(jwtClaimsSet)).getTokenValue());
+    }
 }
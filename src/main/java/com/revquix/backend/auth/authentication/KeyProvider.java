@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -40,6 +40,7 @@ import java.security.KeyStore;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.cert.Certificate;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Component
 @RequiredArgsConstructor
@@ -48,15 +49,25 @@ public class KeyProvider {
 
     private final AuthenticationProperties authenticationProperties;
 
+    private final ReentrantLock keyStoreLock = new ReentrantLock();
+
+    private volatile KeyStore keyStore;
+
     public PrivateKey getPrivateKey() {
-        log.debug("{}::getPrivateKey", getClass().getSimpleName());
+        return getPrivateKey(authenticationProperties.getKeyData().getAlias(), null);
+    }
+
+    public PublicKey getPublicKey() {
+        return getPublicKey(authenticationProperties.getKeyData().getAlias());
+    }
+
+    public PrivateKey getPrivateKey(String alias, String keyPassword) {
+        log.debug("{}::getPrivateKey -> alias: {}", getClass().getSimpleName(), alias);
         try {
-            KeyStore keyStore = KeyStore.getInstance(ServiceConstants.PKCS12);
-            AuthenticationProperties.KeyData keyData = authenticationProperties.getKeyData();
-            try (InputStream keyStoreInputStream = getClass().getResourceAsStream(keyData.getPath())) {
-                keyStore.load(keyStoreInputStream, keyData.getPassword().toCharArray());
-            }
-            return (PrivateKey) keyStore.getKey(keyData.getAlias(), keyData.getPassword().toCharArray());
+            char[] password = keyPassword != null
+                    ? keyPassword.toCharArray()
+                    : authenticationProperties.getKeyData().getPassword().toCharArray();
+            return (PrivateKey) getKeyStore().getKey(alias, password);
         } catch (Exception exception) {
             throw new InternalServerException(
                     ErrorData.EXCEPTION_WHILE_FETCHING_PRIVATE_KEY,
@@ -65,15 +76,10 @@ public class KeyProvider {
         }
     }
 
-    public PublicKey getPublicKey() {
-        log.debug("{}::getPublicKey", getClass().getSimpleName());
+    public PublicKey getPublicKey(String alias) {
+        log.debug("{}::getPublicKey -> alias: {}", getClass().getSimpleName(), alias);
         try {
-            KeyStore keyStore = KeyStore.getInstance(ServiceConstants.PKCS12);
-            AuthenticationProperties.KeyData keyData = authenticationProperties.getKeyData();
-            try (InputStream keyStoreInputStream = getClass().getResourceAsStream(keyData.getPath())) {
-                keyStore.load(keyStoreInputStream, keyData.getPassword().toCharArray());
-            }
-            Certificate certificate = keyStore.getCertificate(keyData.getAlias());
+            Certificate certificate = getKeyStore().getCertificate(alias);
             return certificate.getPublicKey();
         } catch (Exception exception) {
             throw new InternalServerException(
@@ -82,4 +88,30 @@ public class KeyProvider {
             );
         }
     }
+
+    /**
+     * The keystore is loaded and parsed once, every key lookup afterwards is served from memory.
+     * Guarded by a lock rather than {@code synchronized} so a virtual thread doing the load does not pin its carrier.
+     */
+    private KeyStore getKeyStore() throws Exception {
+        KeyStore loadedKeyStore = keyStore;
+        if (loadedKeyStore == null) {
+            keyStoreLock.lock();
+            try {
+                loadedKeyStore = keyStore;
+                if (loadedKeyStore == null) {
+                    loadedKeyStore = KeyStore.getInstance(ServiceConstants.PKCS12);
+                    AuthenticationProperties.KeyData keyData = authenticationProperties.getKeyData();
+                    try (InputStream keyStoreInputStream = getClass().getResourceAsStream(keyData.getPath())) {
+                        loadedKeyStore.load(keyStoreInputStream, keyData.getPassword().toCharArray());
+                    }
+                    keyStore = loadedKeyStore;
+                    log.info("{}::getKeyStore -> Loaded keystore from {}", getClass().getSimpleName(), keyData.getPath());
+                }
+            } finally {
+                keyStoreLock.unlock();
+            }
+        }
+        return loadedKeyStore;
+    }
 }
@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -52,7 +52,6 @@ import com.revquix.backend.auth.properties.AuthenticationProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.core.OAuth2Error;
 import org.springframework.security.oauth2.jwt.BadJwtException;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -77,7 +76,7 @@ public class MfaAuthentication {
     private final UserAuthCache userAuthCache;
     private final RefreshTokenRepository refreshTokenRepository;
     private final MfaEntityRepository mfaEntityRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final OtpHasher otpHasher;
 
     public Authentication authenticate(VerifyMfaRequest verifyMfaRequest) {
         log.info("{}::authenticate -> Authenticating MFA Token", this.getClass().getSimpleName());
@@ -104,7 +103,7 @@ public class MfaAuthentication {
             log.info("{}::verifyMfa -> Deleted MFA entity for userId: {}", this.getClass().getSimpleName(), mfaEntity.getUserId());
             throw new AuthenticationException(ErrorData.INVALID_REMOTE_ADDRESS_MFA);
         }
-        if (!passwordEncoder.matches(verifyMfaRequest.getOtp(), mfaEntity.getOtp())) {
+        if (!otpHasher.matches(mfaEntity.getMfaId(), verifyMfaRequest.getOtp(), mfaEntity.getOtp(), mfaEntity.getExpiresIn())) {
             throw new AuthenticationException(ErrorData.INVALID_MFA_OTP);
         }
         GenericUserValidator.validate(userAuth);
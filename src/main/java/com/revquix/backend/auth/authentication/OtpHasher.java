@@ -0,0 +1,179 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.auth.authentication;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: OtpHasher
+ */
+
+import com.revquix.backend.application.constants.CacheConstants;
+import com.revquix.backend.application.exception.ErrorData;
+import com.revquix.backend.application.exception.payload.BadRequestException;
+import com.revquix.backend.application.exception.payload.InternalServerException;
+import com.revquix.backend.auth.properties.AuthenticationProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Hashes short-lived OTPs with HMAC-SHA256 under a server-side pepper instead of BCrypt. A 4-digit
+ * code has 10^4 candidates, so slow hashing adds CPU cost without adding protection; what limits
+ * guessing is the pepper (the hash is useless without it), the short expiry and the per-OTP attempt
+ * counter kept in Redis.
+ * <p>
+ * Stored form: {@code h1$<salt>$<mac>}, both base64url. The per-row salt keeps hashes of equal codes
+ * distinct, which the unique constraint on {@code otp_entity.otp} relies on. Values in any other
+ * form are BCrypt hashes written before this change and are still verified with the password encoder.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OtpHasher {
+
+    private static final String PREFIX = "h1$";
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int SALT_BYTES = 16;
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final String[] EPHEMERAL_PEPPER_PROFILES = {"local", "dev"};
+
+    private final AuthenticationProperties authenticationProperties;
+    private final PasswordEncoder passwordEncoder;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Environment environment;
+
+    private SecretKeySpec pepper;
+
+    @PostConstruct
+    private void init() {
+        String configuredPepper = authenticationProperties.getOtpHashing().getPepper();
+        byte[] key;
+        if (configuredPepper == null || configuredPepper.isBlank()) {
+            if (!authenticationProperties.getOtpHashing().isAllowEphemeralPepper()
+                    || !environment.acceptsProfiles(Profiles.of(EPHEMERAL_PEPPER_PROFILES))) {
+                log.error("{}::init -> No OTP pepper configured for profiles {}", getClass().getSimpleName(), String.join(",", environment.getActiveProfiles()));
+                throw new InternalServerException(ErrorData.OTP_PEPPER_NOT_CONFIGURED);
+            }
+            log.warn("{}::init -> No OTP pepper configured, using a random one; OTPs will not verify across instances or restarts", getClass().getSimpleName());
+            key = new byte[32];
+            SECURE_RANDOM.nextBytes(key);
+        } else {
+            key = configuredPepper.getBytes(StandardCharsets.UTF_8);
+        }
+        pepper = new SecretKeySpec(key, ALGORITHM);
+    }
+
+    public String hash(String otp) {
+        byte[] salt = new byte[SALT_BYTES];
+        SECURE_RANDOM.nextBytes(salt);
+        return PREFIX + ENCODER.encodeToString(salt) + "$" + ENCODER.encodeToString(mac(salt, otp));
+    }
+
+    /**
+     * Counts the attempt against {@code attemptId} and compares in constant time. Throws once the
+     * attempts for that OTP exceed the configured maximum, even if the code is right.
+     */
+    public boolean matches(String attemptId, String otp, String storedHash, LocalDateTime expiresAt) {
+        long attempts = recordAttempt(attemptId, expiresAt);
+        if (attempts > authenticationProperties.getOtpHashing().getMaxVerifyAttempts()) {
+            log.warn("{}::matches -> OTP attempts exhausted for id: {}", getClass().getSimpleName(), attemptId);
+            throw new BadRequestException(ErrorData.TOO_MANY_OTP_ATTEMPTS);
+        }
+        return matches(otp, storedHash);
+    }
+
+    private boolean matches(String otp, String storedHash) {
+        if (otp == null || storedHash == null) return false;
+        if (!storedHash.startsWith(PREFIX)) {
+            return passwordEncoder.matches(otp, storedHash);
+        }
+        int separator = storedHash.indexOf('$', PREFIX.length());
+        if (separator < 0) return false;
+        try {
+            byte[] salt = DECODER.decode(storedHash.substring(PREFIX.length(), separator));
+            byte[] expected = DECODER.decode(storedHash.substring(separator + 1));
+            return MessageDigest.isEqual(expected, mac(salt, otp));
+        } catch (IllegalArgumentException exception) {
+            log.error("{}::matches -> Malformed OTP hash: {}", getClass().getSimpleName(), exception.getMessage());
+            return false;
+        }
+    }
+
+    private byte[] mac(byte[] salt, String otp) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(pepper);
+            mac.update(salt);
+            return mac.doFinal(otp.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException("HmacSHA256 unavailable", exception);
+        }
+    }
+
+    /**
+     * Fails open when Redis is unreachable; the OTP expiry still bounds guessing.
+     */
+    private long recordAttempt(String attemptId, LocalDateTime expiresAt) {
+        String key = CacheConstants.OTP_ATTEMPTS_PREFIX + ":" + attemptId;
+        long expireAtMillis = expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        try {
+            List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                redis.incr(key);
+                redis.pExpireAt(key, Math.max(expireAtMillis, System.currentTimeMillis() + 1000));
+                return null;
+            });
+            return results.isEmpty() || results.get(0) == null ? 0 : ((Number) results.get(0)).longValue();
+        } catch (Exception exception) {
+            log.error("{}::recordAttempt -> Failed to count OTP attempt for id {}: {}", getClass().getSimpleName(), attemptId, exception.getMessage());
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.auth.authentication;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: PasswordHashingExecutor
+ */
+
+import com.revquix.backend.application.exception.ErrorData;
+import com.revquix.backend.application.exception.payload.ServiceUnavailableException;
+import com.revquix.backend.auth.properties.AuthenticationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs password hashing on a fixed pool of platform threads sized to the core count, so a login
+ * burst can use at most that much CPU while request threads serve everything else. Work that
+ * cannot start and finish within {@code auth.password-hashing.max-wait-ms} is dropped and the
+ * caller gets a {@link ServiceUnavailableException}: immediately when the queue is full, otherwise
+ * at the deadline. A task whose caller has already given up is skipped instead of hashed.
+ */
+@Component
+@Slf4j
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitNanos;
+    private final Timer queueWaitTimer;
+    private final Timer hashTimer;
+    private final Counter rejectedCounter;
+    private final Counter timedOutCounter;
+
+    public PasswordHashingExecutor(AuthenticationProperties authenticationProperties, MeterRegistry meterRegistry) {
+        AuthenticationProperties.PasswordHashing passwordHashing = authenticationProperties.getPasswordHashing();
+        int threads = passwordHashing.getThreads() > 0 ? passwordHashing.getThreads() : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(passwordHashing.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "revquix-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(passwordHashing.getMaxWaitMs());
+        this.queueWaitTimer = Timer.builder("revquix.password.hashing.queue.wait")
+                .description("Time a hashing task spent queued before it started")
+                .register(meterRegistry);
+        this.hashTimer = Timer.builder("revquix.password.hashing.duration")
+                .description("Time spent hashing or verifying one password")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("revquix.password.hashing.rejected")
+                .description("Hashing requests refused because the queue was full")
+                .register(meterRegistry);
+        this.timedOutCounter = Counter.builder("revquix.password.hashing.timed.out")
+                .description("Hashing requests abandoned at their deadline")
+                .register(meterRegistry);
+        Gauge.builder("revquix.password.hashing.queue.size", executor, pool -> pool.getQueue().size())
+                .description("Hashing tasks waiting for a thread")
+                .register(meterRegistry);
+        Gauge.builder("revquix.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Hashing threads currently busy")
+                .register(meterRegistry);
+        log.info("{}::init -> Password hashing pool started with {} threads and queue capacity {}",
+                getClass().getSimpleName(), threads, passwordHashing.getQueueCapacity());
+    }
+
+    public <T> T execute(Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        long deadline = submittedAt + maxWaitNanos;
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueWaitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                if (startedAt - deadline > 0) {
+                    throw new CancellationException("Deadline passed while queued");
+                }
+                return hashTimer.record(task);
+            });
+        } catch (RejectedExecutionException exception) {
+            rejectedCounter.increment();
+            log.warn("{}::execute -> Hashing queue full, rejecting request", getClass().getSimpleName());
+            throw new ServiceUnavailableException(ErrorData.PASSWORD_HASHING_BUSY);
+        }
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | CancellationException exception) {
+            future.cancel(false);
+            timedOutCounter.increment();
+            log.warn("{}::execute -> Hashing request missed its deadline", getClass().getSimpleName());
+            throw new ServiceUnavailableException(ErrorData.PASSWORD_HASHING_BUSY);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof CancellationException) {
+                timedOutCounter.increment();
+                throw new ServiceUnavailableException(ErrorData.PASSWORD_HASHING_BUSY);
+            }
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(exception.getCause());
+        } catch (InterruptedException exception) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(ErrorData.PASSWORD_HASHING_BUSY);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -40,6 +40,7 @@ import com.revquix.backend.application.utils.IpUtils;
 import com.revquix.backend.auth.cache.RefreshTokenCache;
 import com.revquix.backend.auth.cache.UserAuthCache;
 import com.revquix.backend.auth.dao.repository.RefreshTokenRepository;
+import com.revquix.backend.auth.enums.AuthStage;
 import com.revquix.backend.auth.guardrails.GenericUserValidator;
 import com.revquix.backend.auth.model.RefreshToken;
 import com.revquix.backend.auth.model.UserAuth;
@@ -70,19 +71,20 @@ public class RefreshTokenAuthentication {
     private final IpUtils ipUtils;
     private final UserAuthCache userAuthCache;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final AuthStageTimer authStageTimer;
 
     public Authentication authenticate(String token) {
         log.info("{}::authenticate -> Authenticating refresh token", this.getClass().getSimpleName());
         Jwt jwt = validateToken(token);
         String jti = jwt.getId();
-        RefreshToken refreshToken = refreshTokenCache.findById(jti)
+        RefreshToken refreshToken = authStageTimer.record(AuthStage.JTI_CHECK, () -> refreshTokenCache.findById(jti))
                 .orElseThrow(() -> new AuthenticationException(ErrorData.JTI_NOT_PRESENT_DB));
         String userId = jwt.getSubject();
         if (!userId.equals(refreshToken.getUserId())) {
             throw new AuthenticationException(ErrorData.JTI_USER_NOT_MATCHED_WITH_TOKEN);
         }
         validateRemoteAddress(jwt);
-        UserAuth userAuth = userAuthCache.findById(userId)
+        UserAuth userAuth = authStageTimer.record(AuthStage.USER_LOOKUP, () -> userAuthCache.findById(userId))
                 .orElseThrow(() -> new AuthenticationException(ErrorData.USER_NOT_FOUND_FOR_GIVEN_TOKEN));
         GenericUserValidator.validate(userAuth);
         UserIdentity userIdentity = UserIdentity.create(userAuth);
@@ -95,7 +97,7 @@ public class RefreshTokenAuthentication {
     private Jwt validateToken(String token) {
         log.info("{}::validateToken -> Validate token endpoint called", this.getClass().getSimpleName());
         try {
-            Jwt jwt = jwtDecoder.decode(token);
+            Jwt jwt = authStageTimer.record(AuthStage.JWT_DECODE, () -> jwtDecoder.decode(token));
             if (isExpired(jwt)) {
                 throw new AuthenticationException(ErrorData.REFRESH_TOKEN_EXPIRED);
             }
@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -34,13 +34,15 @@ package com.revquix.backend.auth.authentication;
   File: TokenAuthenticationHelper
  */
 
+import com.revquix.backend.application.constants.ServiceConstants;
 import com.revquix.backend.application.exception.ErrorData;
 import com.revquix.backend.application.utils.IpUtils;
 import com.revquix.backend.application.utils.OutputStreamExceptionGenerator;
+import com.revquix.backend.auth.cache.PrincipalCache;
 import com.revquix.backend.auth.cache.RefreshTokenCache;
-import com.revquix.backend.auth.cache.UserAuthCache;
+import com.revquix.backend.auth.enums.AuthStage;
 import com.revquix.backend.auth.model.RefreshToken;
-import com.revquix.backend.auth.model.UserAuth;
+import com.revquix.backend.auth.payload.PrincipalSnapshot;
 import com.revquix.backend.auth.payload.UserIdentity;
 import com.revquix.backend.auth.properties.AuthenticationProperties;
 import com.revquix.backend.auth.util.TokenExtractorUtil;
@@ -62,40 +64,51 @@ public class TokenAuthenticationHelper {
 
     private final JwtDecoder jwtDecoder;
     private final JwtDataProvider jwtDataProvider;
-    private final UserAuthCache userAuthCache;
+    private final PrincipalCache principalCache;
     private final AuthenticationProperties authenticationProperties;
     private final IpUtils ipUtils;
     private final RefreshTokenCache refreshTokenCache;
+    private final AuthStageTimer authStageTimer;
 
     public UserIdentity authenticate(HttpServletRequest request, HttpServletResponse httpServletResponse) {
         log.debug("TokenAuthenticationHelper::authenticate -> Authenticating token from request");
-        Jwt jwt = jwtDecoder.decode(TokenExtractorUtil.extractToken(request));
-        UserAuth userAuth = getUser(jwt, httpServletResponse);
-        boolean validUser = isValidUser(userAuth, httpServletResponse);
+        Jwt jwt = decodedJwt(request);
+        PrincipalSnapshot principal = getUser(jwt, httpServletResponse);
+        if (principal == null) return null;
+        boolean validUser = isValidUser(principal, httpServletResponse);
         if (!validUser) {
             log.error("{}::authenticate -> User is not valid", this.getClass().getSimpleName());
             return null;
         }
         boolean isValidRemoteAddress = isValidRemoteAddress(jwt, httpServletResponse);
         if (!isValidRemoteAddress) return null;
-        boolean isValidJti = isValidJti(jwt, userAuth, httpServletResponse);
+        boolean isValidJti = isValidJti(jwt, principal, httpServletResponse);
         if (!isValidJti) return null;
-        log.info("{}::authenticate -> Successfully authenticated user with userId: {}", this.getClass().getSimpleName(), userAuth.getUserId());
-        return UserIdentity.create(userAuth);
+        log.info("{}::authenticate -> Successfully authenticated user with userId: {}", this.getClass().getSimpleName(), principal.getUserId());
+        return principal.toIdentity();
     }
 
-    private boolean isValidJti(Jwt jwt, UserAuth userAuth, HttpServletResponse httpServletResponse) {
+    private Jwt decodedJwt(HttpServletRequest request) {
+        Object decodedJwt = request.getAttribute(ServiceConstants.DECODED_JWT);
+        if (decodedJwt instanceof Jwt jwt) {
+            return jwt;
+        }
+        String token = TokenExtractorUtil.extractToken(request);
+        return authStageTimer.record(AuthStage.JWT_DECODE, () -> jwtDecoder.decode(token));
+    }
+
+    private boolean isValidJti(Jwt jwt, PrincipalSnapshot principal, HttpServletResponse httpServletResponse) {
         log.debug("{}::isValidJti -> Validating JTI from JWT", this.getClass().getSimpleName());
         String tokenJti = jwt.getId();
-        Optional<RefreshToken> refreshTokenOptional = refreshTokenCache.findById(tokenJti);
+        Optional<RefreshToken> refreshTokenOptional = authStageTimer.record(AuthStage.JTI_CHECK, () -> refreshTokenCache.findById(tokenJti));
         if (refreshTokenOptional.isEmpty()) {
             log.error("{}::isValidJti -> Refresh token not found in cache or database for JTI: {}", this.getClass().getSimpleName(), tokenJti);
             OutputStreamExceptionGenerator.generateExceptionResponse(ErrorData.INVALID_TOKEN_JTI, HttpStatus.UNAUTHORIZED, httpServletResponse);
             return false;
         }
         RefreshToken refreshToken = refreshTokenOptional.get();
-        if (!refreshToken.getUserId().equals(userAuth.getUserId())) {
-            log.error("{}::isValidJti -> Token JTI does not match user ID. Token JTI: {}, User ID: {}", this.getClass().getSimpleName(), tokenJti, userAuth.getUserId());
+        if (!refreshToken.getUserId().equals(principal.getUserId())) {
+            log.error("{}::isValidJti -> Token JTI does not match user ID. Token JTI: {}, User ID: {}", this.getClass().getSimpleName(), tokenJti, principal.getUserId());
             OutputStreamExceptionGenerator.generateExceptionResponse(ErrorData.INVALID_TOKEN_JTI, HttpStatus.UNAUTHORIZED, httpServletResponse);
             return false;
         }
@@ -116,30 +129,30 @@ public class TokenAuthenticationHelper {
         return true;
     }
 
-    private boolean isValidUser(UserAuth userAuth, HttpServletResponse httpServletResponse) {
-        log.debug("{}::validateUser -> Validating user status for userId: {}", this.getClass().getSimpleName(), userAuth.getUserId());
-        if (!userAuth.isEnabled()) {
-            log.error("{}::validateUser -> User is disabled with userId: {}", this.getClass().getSimpleName(), userAuth.getUserId());
+    private boolean isValidUser(PrincipalSnapshot principal, HttpServletResponse httpServletResponse) {
+        log.debug("{}::validateUser -> Validating user status for userId: {}", this.getClass().getSimpleName(), principal.getUserId());
+        if (!principal.isEnabled()) {
+            log.error("{}::validateUser -> User is disabled with userId: {}", this.getClass().getSimpleName(), principal.getUserId());
             OutputStreamExceptionGenerator.generateExceptionResponse(ErrorData.USER_NOT_ENABLED, HttpStatus.UNAUTHORIZED, httpServletResponse);
             return false;
         }
-        if (!userAuth.getIsAccountNonLocked()) {
-            log.error("{}::validateUser -> User account is locked with userId: {}", this.getClass().getSimpleName(), userAuth.getUserId());
+        if (!principal.isAccountNonLocked()) {
+            log.error("{}::validateUser -> User account is locked with userId: {}", this.getClass().getSimpleName(), principal.getUserId());
             OutputStreamExceptionGenerator.generateExceptionResponse(ErrorData.ACCOUNT_LOCKED, HttpStatus.UNAUTHORIZED, httpServletResponse);
             return false;
         }
         return true;
     }
 
-    private UserAuth getUser(Jwt jwt, HttpServletResponse httpServletResponse) {
+    private PrincipalSnapshot getUser(Jwt jwt, HttpServletResponse httpServletResponse) {
         log.info("{}::validateUser -> Validating user from JWT", this.getClass().getSimpleName());
         String userId = jwtDataProvider.extractUserId(jwt);
-        Optional<UserAuth> userAuthOptional = userAuthCache.findById(userId);
-        if (userAuthOptional.isEmpty()) {
+        Optional<PrincipalSnapshot> principalOptional = authStageTimer.record(AuthStage.USER_LOOKUP, () -> principalCache.findById(userId));
+        if (principalOptional.isEmpty()) {
             log.error("{}::getUser -> User not found with id: {}", userId);
             OutputStreamExceptionGenerator.generateExceptionResponse(ErrorData.USER_NOT_FOUND_FOR_GIVEN_TOKEN, HttpStatus.UNAUTHORIZED, httpServletResponse);
             return null;
         }
-        return userAuthOptional.get();
+        return principalOptional.get();
     }
 }
@@ -0,0 +1,116 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.auth.cache;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: PrincipalCache
+ */
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.revquix.backend.application.constants.CacheConstants;
+import com.revquix.backend.application.service.NearCacheService;
+import com.revquix.backend.auth.payload.PrincipalSnapshot;
+import com.revquix.backend.auth.properties.AuthenticationProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Per-node cache of {@link PrincipalSnapshot}s built from {@link UserAuthCache}. Every write or delete
+ * of a user auth cache entry, on any node, evicts the snapshot through the near cache invalidation
+ * channel; the TTL only bounds how long a missed message can go unnoticed.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PrincipalCache {
+
+    private final UserAuthCache userAuthCache;
+    private final NearCacheService nearCacheService;
+    private final AuthenticationProperties authenticationProperties;
+
+    private AsyncCache<String, PrincipalSnapshot> snapshots;
+
+    @PostConstruct
+    public void init() {
+        AuthenticationProperties.PrincipalCache principalCache = authenticationProperties.getPrincipalCache();
+        snapshots = Caffeine.newBuilder()
+                .maximumSize(principalCache.getMaximumSize())
+                .expireAfterWrite(Duration.ofSeconds(principalCache.getTtlSeconds()))
+                .buildAsync();
+        nearCacheService.addInvalidationListener(CacheConstants.USER_BY_ID_PREFIX, this::invalidate);
+        log.info("{}::init -> Principal cache ready with ttl {}s and maximum size {}",
+                getClass().getSimpleName(), principalCache.getTtlSeconds(), principalCache.getMaximumSize());
+    }
+
+    /**
+     * The first caller installs a pending future and loads on its own thread; concurrent callers wait
+     * on that future. No lock is held during the load, so a virtual thread loading here never pins its
+     * carrier. An invalidation racing a load removes the pending future, so the possibly stale snapshot
+     * reaches only the callers already waiting and is never cached. A {@code null} result is not kept.
+     */
+    public Optional<PrincipalSnapshot> findById(String userId) {
+        ConcurrentMap<String, CompletableFuture<PrincipalSnapshot>> entries = snapshots.asMap();
+        CompletableFuture<PrincipalSnapshot> cached = entries.get(userId);
+        if (cached != null) {
+            return Optional.ofNullable(cached.join());
+        }
+        CompletableFuture<PrincipalSnapshot> pending = new CompletableFuture<>();
+        CompletableFuture<PrincipalSnapshot> existing = entries.putIfAbsent(userId, pending);
+        if (existing != null) {
+            return Optional.ofNullable(existing.join());
+        }
+        try {
+            PrincipalSnapshot snapshot = userAuthCache.findById(userId).map(PrincipalSnapshot::from).orElse(null);
+            if (snapshot == null) {
+                entries.remove(userId, pending);
+            }
+            pending.complete(snapshot);
+            return Optional.ofNullable(snapshot);
+        } catch (RuntimeException exception) {
+            entries.remove(userId, pending);
+            pending.completeExceptionally(exception);
+            throw exception;
+        }
+    }
+
+    public void invalidate(String userId) {
+        log.debug("{}::invalidate -> Evicting principal snapshot for userId: {}", getClass().getSimpleName(), userId);
+        snapshots.synchronous().invalidate(userId);
+    }
+}
@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -42,6 +42,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -55,17 +58,11 @@ public class RefreshTokenCache {
     public Optional<RefreshToken> findById(String id) {
         log.info("{}::findById -> Fetching refresh token details for id: {}", this.getClass().getSimpleName(), id);
         String key = cacheService.generateKey(CacheConstants.REFRESH_TOKEN_BY_ID_PREFIX, id);
-        RefreshToken refreshToken;
-        refreshToken = cacheService.get(key, RefreshToken.class);
-        if (refreshToken == null) {
-            Optional<RefreshToken> byId = refreshTokenRepository.findById(id);
-            if (byId.isEmpty()) {
-                return Optional.empty();
-            }
-            refreshToken = byId.get();
-            cacheService.put(key, refreshToken);
-        }
-        return Optional.of(refreshToken);
+        return Optional.ofNullable(cacheService.getOrLoad(
+                key,
+                RefreshToken.class,
+                () -> refreshTokenRepository.findById(id).orElse(null)
+        ));
     }
 
     public void put(RefreshToken refreshToken) {
@@ -79,4 +76,11 @@ public class RefreshTokenCache {
         String key = cacheService.generateKey(CacheConstants.REFRESH_TOKEN_BY_ID_PREFIX, jti);
         cacheService.delete(key);
     }
+
+    public void deleteAllById(Collection<String> jtis) {
+        log.info("{}::deleteAllById -> Deleting refresh token cache for {} ids", this.getClass().getSimpleName(), jtis.size());
+        List<String> keys = new ArrayList<>(jtis.size());
+        jtis.forEach(jti -> keys.add(cacheService.generateKey(CacheConstants.REFRESH_TOKEN_BY_ID_PREFIX, jti)));
+        cacheService.deleteAll(keys);
+    }
 }
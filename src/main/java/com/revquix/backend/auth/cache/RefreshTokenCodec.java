@@ -0,0 +1,81 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.auth.cache;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: RefreshTokenCodec
+ */
+
+import com.revquix.backend.application.codec.CacheBinaryReader;
+import com.revquix.backend.application.codec.CacheBinaryWriter;
+import com.revquix.backend.application.codec.CacheCodec;
+import com.revquix.backend.auth.model.RefreshToken;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RefreshTokenCodec implements CacheCodec<RefreshToken> {
+
+    @Override
+    public int codecId() {
+        return 2;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public Class<RefreshToken> type() {
+        return RefreshToken.class;
+    }
+
+    @Override
+    public void write(RefreshToken refreshToken, CacheBinaryWriter writer) {
+        writer.writeString(refreshToken.getJti());
+        writer.writeString(refreshToken.getUserId());
+        writer.writeDateTime(refreshToken.getDateCreated());
+        writer.writeLong(refreshToken.getExpiresIn());
+        writer.writeString(refreshToken.getRemoteAddress());
+    }
+
+    @Override
+    public RefreshToken read(CacheBinaryReader reader, int version) {
+        return RefreshToken
+                .builder()
+                .jti(reader.readString())
+                .userId(reader.readString())
+                .dateCreated(reader.readDateTime())
+                .expiresIn(reader.readLong())
+                .remoteAddress(reader.readString())
+                .build();
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.auth.cache;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: RoleCatalog
+ */
+
+import com.revquix.backend.application.properties.CacheProperties;
+import com.revquix.backend.auth.dao.repository.RoleRepository;
+import com.revquix.backend.auth.model.Role;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Resident copy of the role table, indexed by id and by name. Lookups never leave the JVM; the
+ * snapshot is swapped whole on {@link #refresh()}, which runs after roles are seeded, when another
+ * instance broadcasts a change and on a slow safety interval.
+ * <p>
+ * Returned {@link Role} instances are shared between callers and must be treated as read-only.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoleCatalog {
+
+    private final RoleRepository roleRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CacheProperties cacheProperties;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @PostConstruct
+    private void init() {
+        refresh();
+    }
+
+    public Optional<Role> findById(String roleId) {
+        return roleId == null ? Optional.empty() : Optional.ofNullable(snapshot.byId.get(roleId));
+    }
+
+    public Optional<Role> findByName(String role) {
+        return role == null ? Optional.empty() : Optional.ofNullable(snapshot.byName.get(role));
+    }
+
+    public Collection<Role> all() {
+        return snapshot.byId.values();
+    }
+
+    public Set<String> roleNames() {
+        return snapshot.byName.keySet();
+    }
+
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            List<Role> roles = roleRepository.findAll();
+            snapshot = Snapshot.of(roles);
+            log.info("{}::refresh -> Loaded {} roles into the catalog", getClass().getSimpleName(), roles.size());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Reloads locally and tells every other instance to do the same.
+     */
+    public void refreshAndBroadcast() {
+        refresh();
+        try {
+            stringRedisTemplate.convertAndSend(cacheProperties.getRoleCatalog().getRefreshChannel(), "refresh");
+        } catch (Exception exception) {
+            log.warn("{}::refreshAndBroadcast -> Failed to broadcast role catalog refresh: {}", getClass().getSimpleName(), exception.getMessage());
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${cache.role-catalog.refresh-interval-ms:600000}",
+            initialDelayString = "${cache.role-catalog.refresh-interval-ms:600000}"
+    )
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (Exception exception) {
+            log.warn("{}::scheduledRefresh -> Keeping previous role catalog: {}", getClass().getSimpleName(), exception.getMessage());
+        }
+    }
+
+    private record Snapshot(Map<String, Role> byId, Map<String, Role> byName) {
+
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of());
+
+        static Snapshot of(List<Role> roles) {
+            Map<String, Role> byId = new LinkedHashMap<>();
+            Map<String, Role> byName = new LinkedHashMap<>();
+            for (Role role : roles) {
+                byId.put(role.getRoleId(), role);
+                byName.put(role.getRole(), role);
+            }
+            return new Snapshot(
+                    Collections.unmodifiableMap(byId),
+                    Collections.unmodifiableMap(byName)
+            );
+        }
+    }
+}
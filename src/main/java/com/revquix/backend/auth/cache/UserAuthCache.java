@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -55,17 +55,11 @@ public class UserAuthCache {
     public Optional<UserAuth> findById(String id) {
         log.info("{}::findById -> Fetching user auth details for id: {}", this.getClass().getSimpleName(), id);
         String key = cacheService.generateKey(CacheConstants.USER_BY_ID_PREFIX, id);
-        UserAuth userAuth;
-        userAuth = cacheService.get(key, UserAuth.class);
-        if (userAuth == null) {
-            Optional<UserAuth> byId = userAuthRepository.findById(id);
-            if (byId.isEmpty()) {
-                return Optional.empty();
-            }
-            userAuth = byId.get();
-            cacheService.put(key, userAuth);
-        }
-        return Optional.of(userAuth);
+        return Optional.ofNullable(cacheService.getOrLoad(
+                key,
+                UserAuth.class,
+                () -> userAuthRepository.findById(id).orElse(null)
+        ));
     }
 
     public void put(UserAuth userAuth) {
@@ -0,0 +1,133 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.auth.cache;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: UserAuthCodec
+ */
+
+import com.revquix.backend.application.codec.CacheBinaryReader;
+import com.revquix.backend.application.codec.CacheBinaryWriter;
+import com.revquix.backend.application.codec.CacheCodec;
+import com.revquix.backend.auth.enums.UserBadge;
+import com.revquix.backend.auth.model.Role;
+import com.revquix.backend.auth.model.UserAuth;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@link RoleCodec} version is stored in front of the nested roles, so roles are read with the
+ * layout they were written in rather than the reader's current one.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserAuthCodec implements CacheCodec<UserAuth> {
+
+    private final RoleCodec roleCodec;
+
+    @Override
+    public int codecId() {
+        return 1;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public Class<UserAuth> type() {
+        return UserAuth.class;
+    }
+
+    @Override
+    public void write(UserAuth userAuth, CacheBinaryWriter writer) {
+        writer.writeString(userAuth.getUserId());
+        writer.writeString(userAuth.getEmail());
+        writer.writeString(userAuth.getUsername());
+        writer.writeString(userAuth.getPassword());
+        writer.writeBoolean(userAuth.isEmailVerified());
+        writer.writeBoolean(userAuth.isEnabled());
+        writer.writeNullableBoolean(userAuth.getIsAccountNonLocked());
+        writer.writeStringList(userAuth.getAuthProvider());
+        writer.writeDateTime(userAuth.getDateCreated());
+        writer.writeDateTime(userAuth.getDateUpdated());
+        writer.writeDateTime(userAuth.getLastPasswordChange());
+        writer.writeString(userAuth.getRegisterIp());
+        writer.writeString(userAuth.getLastLoginIp());
+        List<Role> roles = userAuth.getRoles() == null ? List.of() : userAuth.getRoles();
+        writer.writeByte(roleCodec.version());
+        writer.writeVarInt(roles.size());
+        for (Role role : roles) {
+            roleCodec.write(role, writer);
+        }
+        writer.writeString(userAuth.getUserBadge() == null ? null : userAuth.getUserBadge().name());
+        writer.writeDateTime(userAuth.getLastUsernameChange());
+        writer.writeBoolean(userAuth.isMfaEnabled());
+    }
+
+    @Override
+    public UserAuth read(CacheBinaryReader reader, int version) {
+        UserAuth userAuth = new UserAuth();
+        userAuth.setUserId(reader.readString());
+        userAuth.setEmail(reader.readString());
+        userAuth.setUsername(reader.readString());
+        userAuth.setPassword(reader.readString());
+        userAuth.setEmailVerified(reader.readBoolean());
+        userAuth.setEnabled(reader.readBoolean());
+        userAuth.setIsAccountNonLocked(reader.readNullableBoolean());
+        List<String> authProvider = reader.readStringList();
+        userAuth.setAuthProvider(authProvider == null ? new ArrayList<>() : authProvider);
+        userAuth.setDateCreated(reader.readDateTime());
+        userAuth.setDateUpdated(reader.readDateTime());
+        userAuth.setLastPasswordChange(reader.readDateTime());
+        userAuth.setRegisterIp(reader.readString());
+        userAuth.setLastLoginIp(reader.readString());
+        int roleVersion = reader.readByte();
+        if (roleVersion > roleCodec.version()) {
+            throw new IllegalStateException("Cached UserAuth holds roles with newer version " + roleVersion);
+        }
+        int roleCount = reader.readVarInt();
+        List<Role> roles = new ArrayList<>(roleCount);
+        for (int i = 0; i < roleCount; i++) {
+            roles.add(roleCodec.read(reader, roleVersion));
+        }
+        userAuth.setRoles(roles);
+        String userBadge = reader.readString();
+        userAuth.setUserBadge(userBadge == null ? null : UserBadge.valueOf(userBadge));
+        userAuth.setLastUsernameChange(reader.readDateTime());
+        userAuth.setMfaEnabled(reader.readBoolean());
+        return userAuth;
+    }
+}
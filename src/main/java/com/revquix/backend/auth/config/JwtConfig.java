@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -34,48 +34,53 @@ package com.revquix.backend.auth.config;
   File: JwtConfig
  */
 
-import com.nimbusds.jose.jwk.JWK;
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
-import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
-import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
 import com.nimbusds.jose.proc.SecurityContext;
-import com.revquix.backend.auth.authentication.KeyProvider;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import com.revquix.backend.auth.authentication.CachingJwtDecoder;
+import com.revquix.backend.auth.authentication.JwtKeyManager;
+import com.revquix.backend.auth.authentication.RotatingJwtEncoder;
+import com.revquix.backend.auth.properties.AuthenticationProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
-
-import java.security.PrivateKey;
-import java.security.PublicKey;
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
 
 @Configuration
 @RequiredArgsConstructor
 @Slf4j
 public class JwtConfig {
 
-    private final KeyProvider keyProvider;
+    private final JwtKeyManager jwtKeyManager;
+    private final AuthenticationProperties authenticationProperties;
 
     @Bean
     public JwtEncoder jwtEncoder() {
-        PrivateKey privateKey = keyProvider.getPrivateKey();
-        PublicKey publicKey = keyProvider.getPublicKey();
-        JWK jwk = new RSAKey.Builder((RSAPublicKey) publicKey)
-                .privateKey((RSAPrivateKey) privateKey)
-                .build();
-        JWKSource<SecurityContext> jwks = new ImmutableJWKSet<>(new JWKSet(jwk));
-        return new NimbusJwtEncoder(jwks);
+        return new RotatingJwtEncoder(jwtKeyManager);
     }
 
     @Bean
     public JwtDecoder jwtDecoder() {
-        PublicKey publicKey = keyProvider.getPublicKey();
-        return NimbusJwtDecoder.withPublicKey((RSAPublicKey) publicKey).build();
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(
+                jwtKeyManager.verificationAlgorithms(),
+                jwtKeyManager.verificationKeySource()
+        ));
+        // Claims are validated by the Spring Security validators below
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+        NimbusJwtDecoder nimbusJwtDecoder = new NimbusJwtDecoder(jwtProcessor);
+        nimbusJwtDecoder.setJwtValidator(JwtValidators.createDefault());
+
+        AuthenticationProperties.JwtCache jwtCache = authenticationProperties.getJwtCache();
+        if (!jwtCache.isEnabled()) {
+            return nimbusJwtDecoder;
+        }
+        log.info("{}::jwtDecoder -> Caching verified tokens, maximum size: {}", getClass().getSimpleName(), jwtCache.getMaximumSize());
+        return new CachingJwtDecoder(nimbusJwtDecoder, jwtCache.getMaximumSize());
     }
 }
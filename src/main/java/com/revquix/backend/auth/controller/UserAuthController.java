@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -39,9 +39,12 @@ import com.revquix.backend.application.enums.RateLimitType;
 import com.revquix.backend.application.payload.ExceptionResponse;
 import com.revquix.backend.application.utils.LoggedResponse;
 import com.revquix.backend.auth.payload.request.MfaRequest;
+import com.revquix.backend.auth.payload.response.LogoutResponse;
 import com.revquix.backend.auth.payload.response.ModuleResponse;
+import com.revquix.backend.auth.payload.response.SessionResponse;
 import com.revquix.backend.auth.service.UserAuthService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -53,11 +56,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/v1/user-auth")
@@ -121,4 +127,62 @@ public class UserAuthController {
                 log
         );
     }
+
+    @Operation(
+            summary = "List Active Sessions",
+            description = "Lists the refresh-token sessions of the authenticated user, newest first.",
+            responses = {
+                    @ApiResponse(
+                            description = "Sessions listed successfully.",
+                            responseCode = "200",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = SessionResponse.class))
+                            )
+                    )
+            }
+    )
+    @GetMapping("/sessions")
+    @RateLimit(
+            type = RateLimitType.IP_BASED,
+            requestsPerMinute = 30,
+            requestsPerHour = 300,
+            message = "Session listing rate limit exceeded. Please try again later."
+    )
+    ResponseEntity<List<SessionResponse>> sessions() {
+        return LoggedResponse.call(
+                ()-> userAuthService.sessions(),
+                "List Sessions",
+                log
+        );
+    }
+
+    @Operation(
+            summary = "Logout From All Devices",
+            description = "Revokes every refresh-token session of the authenticated user, including the current one.",
+            responses = {
+                    @ApiResponse(
+                            description = "All sessions revoked successfully.",
+                            responseCode = "200",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = LogoutResponse.class)
+                            )
+                    )
+            }
+    )
+    @PostMapping("/logout-all")
+    @RateLimit(
+            type = RateLimitType.IP_BASED,
+            requestsPerMinute = 5,
+            requestsPerHour = 30,
+            message = "Logout rate limit exceeded. Please try again later."
+    )
+    ResponseEntity<LogoutResponse> logoutAll() {
+        return LoggedResponse.call(
+                ()-> userAuthService.logoutAll(),
+                "Logout All",
+                log
+        );
+    }
 }
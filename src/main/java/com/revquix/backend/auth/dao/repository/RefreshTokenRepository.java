@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -36,6 +36,21 @@ package com.revquix.backend.auth.dao.repository;
 
 import com.revquix.backend.auth.model.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    List<RefreshToken> findByUserIdAndExpiresInGreaterThanOrderByDateCreatedDesc(String userId, long expiresIn);
+
+    /**
+     * Deletes every refresh token of the user and returns the deleted ids from the same statement,
+     * so the caller evicts exactly the rows it removed.
+     */
+    @Transactional
+    @Query(value = "delete from auth.refresh_token where user_id = :userId returning jti", nativeQuery = true)
+    List<String> deleteByUserIdReturningJti(@Param("userId") String userId);
 }
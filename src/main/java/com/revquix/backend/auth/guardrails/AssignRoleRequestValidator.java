@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -36,16 +36,13 @@ package com.revquix.backend.auth.guardrails;
 
 import com.revquix.backend.application.exception.ErrorData;
 import com.revquix.backend.application.exception.payload.BadRequestException;
-import com.revquix.backend.auth.dao.repository.RoleRepository;
-import com.revquix.backend.auth.model.Role;
+import com.revquix.backend.auth.cache.RoleCatalog;
 import com.revquix.backend.auth.payload.request.AssignRoleRequest;
 import com.revquix.backend.auth.util.IdentityProvider;
-import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -54,18 +51,10 @@ import java.util.Set;
 @Slf4j
 public class AssignRoleRequestValidator {
 
-    private final RoleRepository roleRepository;
-
-    private List<Role> allRoles;
-
-    @PostConstruct
-    private void init() {
-        allRoles = roleRepository.findAll();
-        log.info("{}::init -> Cached all roles: {}", this.getClass().getSimpleName(), allRoles);
-    }
+    private final RoleCatalog roleCatalog;
 
     public void validate(AssignRoleRequest assignRoleRequest) {
-        log.info("{}:: Validating AssignRoleRequest: {}", AssignRoleRequestValidator.class.getSimpleName(), assignRoleRequest.toJson());
+        log.info("{}:: Validating AssignRoleRequest: {}", AssignRoleRequestValidator.class.getSimpleName(), assignRoleRequest.lazyJson());
         if (assignRoleRequest.getUserId().equals(IdentityProvider.getOrThrow().getUserId())) {
             throw new BadRequestException(ErrorData.CANNOT_ASSIGN_ROLE_TO_SELF);
         }
@@ -78,16 +67,15 @@ public class AssignRoleRequestValidator {
         if (assignRoleRequest.getRoles().contains(null)) {
             throw new BadRequestException(ErrorData.ROLE_LIST_CONTAINS_NULL);
         }
-        allRolesValid(assignRoleRequest.getRoles(), allRoles.stream().map(Role::getRole).toList());
+        allRolesValid(assignRoleRequest.getRoles(), roleCatalog.roleNames());
         if (assignRoleRequest.getRoles().contains("admin")) {
             throw new BadRequestException(ErrorData.ADMIN_ROLE_CANNOT_BE_ASSIGNED_THROUGH_THIS_API);
         }
     }
 
-    private void allRolesValid(List<String> givenRoles, List<String> parentRoles) {
-        Set<String> parentRoleSet = new HashSet<>(parentRoles);
+    private void allRolesValid(List<String> givenRoles, Set<String> parentRoles) {
         List<String> invalidRoles = givenRoles.stream()
-                .filter(role -> !parentRoleSet.contains(role))
+                .filter(role -> !parentRoles.contains(role))
                 .toList();
 
         if (!invalidRoles.isEmpty()) {
@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -85,7 +85,7 @@ import java.util.List;
 public class UserAuth extends ModelPayload<UserAuth> {
 
     @Id
-    @ModelId(prefix = "UA", sequence = "auth.user_auth_id_seq", length = 6)
+    @ModelId(prefix = "UA", sequence = "auth.user_auth_id_seq", length = 6, allocationSize = 50)
     private String userId;
 
     @Column(nullable = false, unique = true)
@@ -0,0 +1,116 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.auth.payload;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: PrincipalSnapshot
+ */
+
+import com.revquix.backend.auth.enums.UserBadge;
+import com.revquix.backend.auth.model.Role;
+import com.revquix.backend.auth.model.UserAuth;
+import com.revquix.backend.auth.util.AuthorityInterner;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable view of a {@link UserAuth} holding only what bearer token authentication needs. Roles are
+ * flattened into interned authorities once, when the snapshot is built, and the password hash is
+ * never carried.
+ */
+@Getter
+public final class PrincipalSnapshot {
+
+    private final String userId;
+    private final String email;
+    private final String username;
+    private final boolean enabled;
+    private final boolean accountNonLocked;
+    private final boolean emailVerified;
+    private final LocalDateTime lastPasswordChange;
+    private final String lastLoginIp;
+    private final UserBadge userBadge;
+    private final boolean mfaEnabled;
+    private final List<GrantedAuthority> authorities;
+
+    private PrincipalSnapshot(UserAuth userAuth, List<GrantedAuthority> authorities) {
+        this.userId = userAuth.getUserId();
+        this.email = userAuth.getEmail();
+        this.username = userAuth.getUsername();
+        this.enabled = userAuth.isEnabled();
+        this.accountNonLocked = !Boolean.FALSE.equals(userAuth.getIsAccountNonLocked());
+        this.emailVerified = userAuth.isEmailVerified();
+        this.lastPasswordChange = userAuth.getLastPasswordChange();
+        this.lastLoginIp = userAuth.getLastLoginIp();
+        this.userBadge = userAuth.getUserBadge();
+        this.mfaEnabled = userAuth.isMfaEnabled();
+        this.authorities = authorities;
+    }
+
+    public static PrincipalSnapshot from(UserAuth userAuth) {
+        return new PrincipalSnapshot(userAuth, authoritiesOf(userAuth.getRoles()));
+    }
+
+    public static List<GrantedAuthority> authoritiesOf(List<Role> roles) {
+        if (roles == null || roles.isEmpty()) return List.of();
+        Set<GrantedAuthority> authorities = new LinkedHashSet<>();
+        for (Role role : roles) {
+            authorities.add(AuthorityInterner.intern(role.getRole()));
+            List<String> internalRoles = role.getInternalRoles();
+            if (internalRoles != null) {
+                internalRoles.forEach(internalRole -> authorities.add(AuthorityInterner.intern(internalRole)));
+            }
+        }
+        return List.copyOf(authorities);
+    }
+
+    public UserIdentity toIdentity() {
+        return new UserIdentity(
+                userId,
+                email,
+                username,
+                null,
+                enabled,
+                accountNonLocked,
+                lastPasswordChange,
+                emailVerified,
+                lastLoginIp,
+                userBadge,
+                authorities,
+                mfaEnabled
+        );
+    }
+}
@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -38,20 +38,16 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.revquix.backend.application.utils.MaskingSerializer;
 import com.revquix.backend.auth.enums.UserBadge;
-import com.revquix.backend.auth.model.Role;
 import com.revquix.backend.auth.model.UserAuth;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 
 @Getter
@@ -105,8 +101,7 @@ public class UserIdentity implements UserDetails {
     }
 
     public static UserIdentity create(UserAuth userAuth) {
-        List<Role> roles = userAuth.getRoles();
-        List<SimpleGrantedAuthority> grantedAuthorities = parseRoles(roles).stream().map(SimpleGrantedAuthority::new).toList();
+        List<GrantedAuthority> grantedAuthorities = PrincipalSnapshot.authoritiesOf(userAuth.getRoles());
         return new UserIdentity(
                 userAuth.getUserId(),
                 userAuth.getEmail(),
@@ -123,20 +118,6 @@ public class UserIdentity implements UserDetails {
         );
     }
 
-    private static List<String> parseRoles(List<Role> roles) {
-        if (roles == null || roles.isEmpty()) return Collections.emptyList();
-        List<String> parsedRoles = new ArrayList<>();
-        roles.forEach(role -> {
-            parsedRoles.add(role.getRole());
-            List<String> internalRoles = role.getInternalRoles();
-            if (internalRoles != null) parsedRoles.addAll(internalRoles);
-        });
-        return parsedRoles
-                .stream()
-                .distinct()
-                .toList();
-    }
-
     @Override
     public boolean isAccountNonExpired() {
         return true;
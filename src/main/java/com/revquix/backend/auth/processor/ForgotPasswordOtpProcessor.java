@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -27,6 +27,7 @@
  */
 package com.revquix.backend.auth.processor;
 
+import com.revquix.backend.auth.authentication.OtpHasher;
 import com.revquix.backend.auth.dao.repository.OtpEntityRepository;
 import com.revquix.backend.auth.enums.OtpFor;
 import com.revquix.backend.auth.enums.OtpStatus;
@@ -34,14 +35,14 @@ import com.revquix.backend.auth.model.OtpEntity;
 import com.revquix.backend.auth.model.UserAuth;
 import com.revquix.backend.auth.properties.AuthenticationProperties;
 import com.revquix.backend.auth.util.OtpGenerator;
-import com.revquix.backend.notification.payload.ForgotPasswordOtpPayload;
-import com.revquix.backend.notification.processor.SendForgotPasswordOtpMail;
+import com.revquix.backend.notification.enums.MailType;
+import com.revquix.backend.notification.service.MailOutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Optional;
 
 @Component
@@ -50,8 +51,8 @@ import java.util.Optional;
 public class ForgotPasswordOtpProcessor {
     private final OtpEntityRepository otpEntityRepository;
     private final AuthenticationProperties authenticationProperties;
-    private final PasswordEncoder passwordEncoder;
-    private final SendForgotPasswordOtpMail sendForgotPasswordOtpMail;
+    private final OtpHasher otpHasher;
+    private final MailOutboxService mailOutboxService;
 
     public void process(UserAuth userAuth) {
         log.info("{}::process -> Processing Forgot Password OTP: {}", this.getClass().getSimpleName(), userAuth.getEmail());
@@ -82,10 +83,10 @@ public class ForgotPasswordOtpProcessor {
         String otp = OtpGenerator.generate(PasswordReset.getOtpSize());
         OtpEntity otpEntity = buildOtpEntity(userAuth, otp);
         OtpEntity otpEntityResponse = otpEntityRepository.save(otpEntity);
-        log.info("{}::process -> New OtpEntity saved successfully for email: {}, otpEntity: {}", this.getClass().getSimpleName(), userAuth.getEmail(), otpEntityResponse.toJson());
+        log.info("{}::process -> New OtpEntity saved successfully for email: {}, otpEntity: {}", this.getClass().getSimpleName(), userAuth.getEmail(), otpEntityResponse.lazyJson());
         if (PasswordReset.isMailEnabled()) {
-            log.info("{}::process -> Forgot Password OTP mail sending is enabled, OTP: {}", this.getClass().getSimpleName(), otpEntity.getOtp());
-            sendForgotPasswordOtpMail.execute(new ForgotPasswordOtpPayload(otp, otpEntity.getEmail()));
+            log.info("{}::process -> Forgot Password OTP mail sending is enabled, queueing OTP for otpId: {}", this.getClass().getSimpleName(), otpEntity.getOtpId());
+            mailOutboxService.enqueue(MailType.FORGOT_PASSWORD_OTP, otpEntity.getEmail(), Map.of("otp", otp, "email", otpEntity.getEmail()));
         }
         if (PasswordReset.isLogEnabled()) {
             log.info("{}::process -> Forgot Password OTP for email: {}, otp: {}", this.getClass().getSimpleName(), userAuth.getEmail(), otp);
@@ -96,7 +97,7 @@ public class ForgotPasswordOtpProcessor {
         AuthenticationProperties.PasswordReset PasswordReset = authenticationProperties.getOtpInfo().getPasswordReset();
         OtpEntity otpEntity = OtpEntity
                 .builder()
-                .otp(passwordEncoder.encode(otp))
+                .otp(otpHasher.hash(otp))
                 .userId(userAuth.getUserId())
                 .email(userAuth.getEmail())
                 .otpFor(OtpFor.FORGOT_PASSWORD)
@@ -104,7 +105,7 @@ public class ForgotPasswordOtpProcessor {
                 .timesSent(0)
                 .otpStatus(OtpStatus.ACTIVE)
                 .build();
-        log.info("{}::buildOtpEntity -> Built new OtpEntity for email: {}, otpEntity:{}", getClass().getSimpleName(), userAuth.getEmail(), otpEntity.toJson());
+        log.info("{}::buildOtpEntity -> Built new OtpEntity for email: {}, otpEntity:{}", getClass().getSimpleName(), userAuth.getEmail(), otpEntity.lazyJson());
         return otpEntity;
     }
 }
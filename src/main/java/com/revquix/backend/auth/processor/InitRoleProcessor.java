@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -27,6 +27,7 @@
  */
 package com.revquix.backend.auth.processor;
 
+import com.revquix.backend.auth.cache.RoleCatalog;
 import com.revquix.backend.auth.dao.repository.RoleRepository;
 import com.revquix.backend.auth.model.Role;
 import com.revquix.backend.auth.payload.RolePayload;
@@ -46,6 +47,7 @@ public class InitRoleProcessor {
 
     private final FetchRoleProperties fetchRoleProperties;
     private final RoleRepository roleRepository;
+    private final RoleCatalog roleCatalog;
 
     public void process() {
         log.info("{}::process -> Role Processor Initiated", getClass().getSimpleName());
@@ -64,5 +66,6 @@ public class InitRoleProcessor {
                 )
                 .toList();
         roleRepository.saveAll(rolesToSave);
+        roleCatalog.refreshAndBroadcast();
     }
 }
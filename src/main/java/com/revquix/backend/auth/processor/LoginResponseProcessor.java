@@ -0,0 +1,68 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.auth.processor;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: LoginResponseProcessor
+ */
+
+import com.revquix.backend.auth.payload.UserIdentity;
+import com.revquix.backend.auth.payload.response.AuthResponse;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes what a successful login issues, the MFA challenge or the refresh token and last login IP,
+ * in one transaction. The password check runs before this, so a login waiting on the hashing pool
+ * holds no database connection.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoginResponseProcessor {
+
+    private final AuthResponseGenerator authResponseGenerator;
+    private final MfaAuthResponseGenerator mfaAuthResponseGenerator;
+    private final PostLoginProcessor postLoginProcessor;
+
+    @Transactional
+    public AuthResponse process(UserIdentity userIdentity) {
+        log.info("{}::process -> Issuing login response for user: {}", getClass().getSimpleName(), userIdentity.getUserId());
+        if (userIdentity.isMfaEnabled()) {
+            return mfaAuthResponseGenerator.generate(userIdentity);
+        }
+        AuthResponse authResponse = authResponseGenerator.generate(userIdentity);
+        postLoginProcessor.process(userIdentity);
+        return authResponse;
+    }
+}
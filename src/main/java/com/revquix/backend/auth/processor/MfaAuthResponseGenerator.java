@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -37,6 +37,7 @@ package com.revquix.backend.auth.processor;
 import com.revquix.backend.application.constants.ServiceConstants;
 import com.revquix.backend.application.utils.IpUtils;
 import com.revquix.backend.application.utils.ServletUtil;
+import com.revquix.backend.auth.authentication.OtpHasher;
 import com.revquix.backend.auth.dao.repository.MfaEntityRepository;
 import com.revquix.backend.auth.model.MfaEntity;
 import com.revquix.backend.auth.payload.UserIdentity;
@@ -47,7 +48,6 @@ import com.revquix.backend.auth.util.OtpGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseCookie;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
@@ -64,7 +64,7 @@ public class MfaAuthResponseGenerator {
     private final IpUtils ipUtils;
     private final ServletUtil servletUtil;
     private final MfaEntityRepository mfaEntityRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final OtpHasher otpHasher;
     private final MfaOtpProcessor mfaOtpProcessor;
 
     public AuthResponse generate(UserIdentity userIdentity) {
@@ -72,13 +72,13 @@ public class MfaAuthResponseGenerator {
         String otp = OtpGenerator.generate(authenticationProperties.getMfa().getOtpSize());
         MfaEntity mfaEntity = build(userIdentity, otp);
         MfaEntity mfaEntityResponse = mfaEntityRepository.save(mfaEntity);
-        log.info("{}::generate -> Saved MFA Entity: {}", getClass().getSimpleName(), mfaEntityResponse.toJson());
-        mfaOtpProcessor.process(userIdentity.getEmail(), otp);
+        log.info("{}::generate -> Saved MFA Entity: {}", getClass().getSimpleName(), mfaEntityResponse.lazyJson());
+        mfaOtpProcessor.process(userIdentity.getEmail(), otp, mfaEntityResponse);
         return buildAuthResponse(mfaEntityResponse);
     }
 
     private AuthResponse buildAuthResponse(MfaEntity mfaEntityResponse) {
-        log.info("{}::buildAuthResponse -> Building Auth Response for MFA Entity: {}", getClass().getSimpleName(), mfaEntityResponse.toJson());
+        log.info("{}::buildAuthResponse -> Building Auth Response for MFA Entity: {}", getClass().getSimpleName(), mfaEntityResponse.lazyJson());
         Instant now = Instant.now();
         AuthenticationProperties.TokenInfo tokenInfo = authenticationProperties.getInfo();
         long expiresAt = mfaEntityResponse.getExpiresIn().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
@@ -100,7 +100,7 @@ public class MfaAuthResponseGenerator {
                 .userId(mfaEntityResponse.getUserId())
                 .refreshTokenCookie(clearCookie)
                 .build();
-        log.info("{}::buildAuthResponse -> Built Auth Response: {}", getClass().getSimpleName(), authResponse.toJson());
+        log.info("{}::buildAuthResponse -> Built Auth Response: {}", getClass().getSimpleName(), authResponse.lazyJson());
         return authResponse;
     }
 
@@ -111,14 +111,14 @@ public class MfaAuthResponseGenerator {
         MfaEntity mfaEntity = MfaEntity
                 .builder()
                 .token(mfaToken)
-                .otp(passwordEncoder.encode(otp))
+                .otp(otpHasher.hash(otp))
                 .userId(userIdentity.getUserId())
                 .expiresIn(LocalDateTime.now().plusMinutes(expiryMinutes))
                 .remoteAddress(ipUtils.getIpv4())
                 .os(servletUtil.os())
                 .browser(servletUtil.browser())
                 .build();
-        log.info("{}::build -> Built MFA Entity : {}", getClass().getSimpleName(), mfaEntity.toJson());
+        log.info("{}::build -> Built MFA Entity : {}", getClass().getSimpleName(), mfaEntity.lazyJson());
         return mfaEntity;
     }
 }
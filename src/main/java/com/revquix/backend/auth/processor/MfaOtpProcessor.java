@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -34,28 +34,39 @@ package com.revquix.backend.auth.processor;
   File: MfaOtpProcessor
  */
 
+import com.revquix.backend.application.utils.DateUtil;
 import com.revquix.backend.auth.model.MfaEntity;
 import com.revquix.backend.auth.properties.AuthenticationProperties;
-import com.revquix.backend.notification.payload.MfaOtpPayload;
-import com.revquix.backend.notification.processor.SendMfaOtpMail;
+import com.revquix.backend.notification.enums.MailType;
+import com.revquix.backend.notification.service.MailOutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.Map;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class MfaOtpProcessor {
 
     private final AuthenticationProperties authenticationProperties;
-    private final SendMfaOtpMail sendMfaOtpMail;
+    private final MailOutboxService mailOutboxService;
 
-    public void process(String email, String otp) {
+    public void process(String email, String otp, MfaEntity mfaEntity) {
         log.info("{}::process -> Processing MFA OTP for email: {}", getClass().getSimpleName(), email);
         AuthenticationProperties.Mfa mfa = authenticationProperties.getMfa();
         if (mfa.isEnabled()) {
             log.info("{}::process -> MFA is enabled in properties. Proceeding with OTP processing for MFA Entity: {}", getClass().getSimpleName());
-            sendMfaOtpMail.execute(MfaOtpPayload.builder().otp(otp).email(email).build());
+            mailOutboxService.enqueue(MailType.MFA_OTP, email, Map.of(
+                    "otp", otp,
+                    "email", email,
+                    "timestamp", DateUtil.templateFormattedDate(LocalDateTime.now()),
+                    "remoteAddress", mfaEntity.getRemoteAddress(),
+                    "os", mfaEntity.getOs(),
+                    "browser", mfaEntity.getBrowser()
+            ));
         } else {
             log.warn("{}::process -> MFA is disabled in properties. Skipping OTP processing for MFA Entity: {}", getClass().getSimpleName());
         }
@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -34,6 +34,7 @@ package com.revquix.backend.auth.processor;
   File: RegistrationOtpProcessor
  */
 
+import com.revquix.backend.auth.authentication.OtpHasher;
 import com.revquix.backend.auth.dao.repository.OtpEntityRepository;
 import com.revquix.backend.auth.enums.OtpFor;
 import com.revquix.backend.auth.enums.OtpStatus;
@@ -41,14 +42,14 @@ import com.revquix.backend.auth.model.OtpEntity;
 import com.revquix.backend.auth.model.UserAuth;
 import com.revquix.backend.auth.properties.AuthenticationProperties;
 import com.revquix.backend.auth.util.OtpGenerator;
-import com.revquix.backend.notification.payload.RegistrationOtpPayload;
-import com.revquix.backend.notification.processor.SendRegistrationOtpMail;
+import com.revquix.backend.notification.enums.MailType;
+import com.revquix.backend.notification.service.MailOutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Optional;
 
 @Component
@@ -58,8 +59,8 @@ public class RegistrationOtpProcessor {
 
     private final OtpEntityRepository otpEntityRepository;
     private final AuthenticationProperties authenticationProperties;
-    private final PasswordEncoder passwordEncoder;
-    private final SendRegistrationOtpMail sendRegistrationOtpMail;
+    private final OtpHasher otpHasher;
+    private final MailOutboxService mailOutboxService;
 
     public void process(UserAuth userAuth) {
         log.info("{}::process -> Processing Register OTP: {}", this.getClass().getSimpleName(), userAuth.getEmail());
@@ -94,10 +95,10 @@ public class RegistrationOtpProcessor {
         String otp = OtpGenerator.generate(registration.getOtpSize());
         OtpEntity otpEntity = buildOtpEntity(userAuth, otp);
         OtpEntity otpEntityResponse = otpEntityRepository.save(otpEntity);
-        log.info("{}::process -> New OtpEntity saved successfully for email: {}, otpEntity: {}", this.getClass().getSimpleName(), userAuth.getEmail(), otpEntityResponse.toJson());
+        log.info("{}::process -> New OtpEntity saved successfully for email: {}, otpEntity: {}", this.getClass().getSimpleName(), userAuth.getEmail(), otpEntityResponse.lazyJson());
         if (registration.isMailEnabled()) {
-            log.info("{}::process -> Registration OTP mail sending is enabled, OTP: {}", this.getClass().getSimpleName(), otpEntity.getOtp());
-            sendRegistrationOtpMail.execute(new RegistrationOtpPayload(otp, otpEntity.getEmail()));
+            log.info("{}::process -> Registration OTP mail sending is enabled, queueing OTP for otpId: {}", this.getClass().getSimpleName(), otpEntity.getOtpId());
+            mailOutboxService.enqueue(MailType.REGISTRATION_OTP, otpEntity.getEmail(), Map.of("otp", otp, "email", otpEntity.getEmail()));
         }
         if (registration.isLogEnabled()) {
             log.info("{}::process -> Registration OTP for email: {}, otp: {}", this.getClass().getSimpleName(), userAuth.getEmail(), otp);
@@ -108,7 +109,7 @@ public class RegistrationOtpProcessor {
         AuthenticationProperties.Registration registration = authenticationProperties.getOtpInfo().getRegistration();
         OtpEntity otpEntity = OtpEntity
                 .builder()
-                .otp(passwordEncoder.encode(otp))
+                .otp(otpHasher.hash(otp))
                 .userId(userAuth.getUserId())
                 .email(userAuth.getEmail())
                 .otpFor(OtpFor.REGISTER)
@@ -116,7 +117,7 @@ public class RegistrationOtpProcessor {
                 .timesSent(0)
                 .otpStatus(OtpStatus.ACTIVE)
                 .build();
-        log.info("{}::buildOtpEntity -> Built new OtpEntity for email: {}, otpEntity:{}", getClass().getSimpleName(), userAuth.getEmail(), otpEntity.toJson());
+        log.info("{}::buildOtpEntity -> Built new OtpEntity for email: {}, otpEntity:{}", getClass().getSimpleName(), userAuth.getEmail(), otpEntity.lazyJson());
         return otpEntity;
     }
 }
@@ -0,0 +1,77 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.auth.processor;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: SessionRevocationProcessor
+ */
+
+import com.revquix.backend.auth.cache.RefreshTokenCache;
+import com.revquix.backend.auth.dao.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SessionRevocationProcessor {
+
+    private final RefreshTokenCache refreshTokenCache;
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    /**
+     * Deletes every refresh token of the user. The evicted cache entries are the ids returned by the
+     * delete itself, so a session is never left cached because some index missed it. Eviction runs
+     * after the surrounding transaction commits, so a rollback never leaves the cache claiming
+     * sessions are gone.
+     */
+    public int revokeAll(String userId) {
+        log.info("{}::revokeAll -> Revoking all sessions for userId: {}", getClass().getSimpleName(), userId);
+        List<String> jtis = refreshTokenRepository.deleteByUserIdReturningJti(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refreshTokenCache.deleteAllById(jtis);
+                }
+            });
+        } else {
+            refreshTokenCache.deleteAllById(jtis);
+        }
+        log.info("{}::revokeAll -> Revoked {} sessions for userId: {}", getClass().getSimpleName(), jtis.size(), userId);
+        return jtis.size();
+    }
+}
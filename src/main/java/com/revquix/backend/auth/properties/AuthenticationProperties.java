@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -38,7 +38,9 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -54,8 +56,13 @@ public class AuthenticationProperties {
     private TokenInfo info;
     private Cors cors;
     private OtpInfo otpInfo;
+    private OtpHashing otpHashing = new OtpHashing();
+    private PasswordHashing passwordHashing = new PasswordHashing();
     private Authorization authorization;
     private Mfa mfa;
+    private JwtCache jwtCache = new JwtCache();
+    private PrincipalCache principalCache = new PrincipalCache();
+    private SigningKeys signingKeys = new SigningKeys();
 
     @Getter
     @Setter
@@ -97,6 +104,34 @@ public class AuthenticationProperties {
         private PasswordReset passwordReset;
     }
 
+    @Getter
+    @Setter
+    public static class OtpHashing {
+        /**
+         * Server-side HMAC key for OTP hashes; must be identical on every instance.
+         */
+        private String pepper;
+        /**
+         * Lets local and dev runs start without a pepper by generating a random one per instance.
+         */
+        private boolean allowEphemeralPepper = false;
+        private int maxVerifyAttempts = 5;
+    }
+
+    @Getter
+    @Setter
+    public static class PasswordHashing {
+        /**
+         * Hashing threads; 0 means one per available core.
+         */
+        private int threads = 0;
+        private int queueCapacity = 64;
+        /**
+         * Longest a caller waits for its hash, queueing included, before getting a 503.
+         */
+        private long maxWaitMs = 2000;
+    }
+
     @Getter
     @Setter
     public static class Registration {
@@ -137,4 +172,36 @@ public class AuthenticationProperties {
         private int expiryMinutes = 5;
         private int otpSize = 4;
     }
+
+    @Getter
+    @Setter
+    public static class JwtCache {
+        private boolean enabled = true;
+        private long maximumSize = 100000;
+    }
+
+    @Getter
+    @Setter
+    public static class PrincipalCache {
+        private long ttlSeconds = 60;
+        private long maximumSize = 50000;
+    }
+
+    @Getter
+    @Setter
+    public static class SigningKeys {
+        private long rotationCheckIntervalMs = 60000;
+        private int gracePeriodDays = 31;
+        private List<SigningKey> keys = new ArrayList<>();
+    }
+
+    @Getter
+    @Setter
+    public static class SigningKey {
+        private String kid;
+        private String alias;
+        private String password;
+        private SignatureAlgorithm algorithm = SignatureAlgorithm.RS256;
+        private Instant activeFrom;
+    }
 }
@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -35,9 +35,17 @@ package com.revquix.backend.auth.service;
  */
 
 import com.revquix.backend.auth.payload.request.MfaRequest;
+import com.revquix.backend.auth.payload.response.LogoutResponse;
 import com.revquix.backend.auth.payload.response.ModuleResponse;
+import com.revquix.backend.auth.payload.response.SessionResponse;
 import org.springframework.http.ResponseEntity;
 
+import java.util.List;
+
 public interface UserAuthService {
     ResponseEntity<ModuleResponse> toggleMfa(MfaRequest mfaRequest);
+
+    ResponseEntity<List<SessionResponse>> sessions();
+
+    ResponseEntity<LogoutResponse> logoutAll();
 }
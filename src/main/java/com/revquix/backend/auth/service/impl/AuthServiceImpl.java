@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -39,6 +39,7 @@ import com.revquix.backend.application.exception.payload.AuthenticationException
 import com.revquix.backend.application.exception.payload.BadRequestException;
 import com.revquix.backend.application.utils.IpUtils;
 import com.revquix.backend.auth.authentication.MfaAuthentication;
+import com.revquix.backend.auth.authentication.OtpHasher;
 import com.revquix.backend.auth.authentication.RefreshTokenAuthentication;
 import com.revquix.backend.auth.cache.UserAuthCache;
 import com.revquix.backend.auth.dao.repository.MfaEntityRepository;
@@ -95,18 +96,18 @@ public class AuthServiceImpl implements AuthService {
     private final RefreshTokenProvider refreshTokenProvider;
     private final RefreshTokenAuthentication refreshTokenAuthentication;
     private final PasswordEncoder passwordEncoder;
+    private final OtpHasher otpHasher;
     private final LogoutProcessor logoutProcessor;
+    private final SessionRevocationProcessor sessionRevocationProcessor;
     private final AuthenticationProperties authenticationProperties;
     private final RegistrationOtpProcessor registrationOtpProcessor;
     private final ForgotPasswordOtpProcessor forgotPasswordOtpProcessor;
-    private final MfaAuthResponseGenerator mfaAuthResponseGenerator;
     private final MfaAuthentication mfaAuthentication;
-    private final PostLoginProcessor postLoginProcessor;
     private final EntrypointValidator entrypointValidator;
     private final EmailValidator emailValidator;
+    private final LoginResponseProcessor loginResponseProcessor;
 
     @Override
-    @Transactional
     public ResponseEntity<AuthResponse> token(String entrypoint, String password) {
         log.info("{}::validate -> Validating token: {}", UsernameValidator.class.getSimpleName(), entrypoint);
         entrypoint = entrypoint.toLowerCase();
@@ -115,13 +116,7 @@ public class AuthServiceImpl implements AuthService {
         Authentication userAuthentication = authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(entrypoint, password));
         UserIdentity userIdentity = (UserIdentity) userAuthentication.getPrincipal();
         instanceValidator.validate(userIdentity);
-        AuthResponse authResponse;
-        if (userIdentity.isMfaEnabled()) {
-            authResponse = mfaAuthResponseGenerator.generate(userIdentity);
-        } else {
-            authResponse = authResponseGenerator.generate(userIdentity);
-            postLoginProcessor.process(userIdentity);
-        }
+        AuthResponse authResponse = loginResponseProcessor.process(userIdentity);
         SecurityContextHolder.getContext().setAuthentication(userAuthentication);
         return ResponseEntity
                 .accepted()
@@ -172,7 +167,7 @@ public class AuthServiceImpl implements AuthService {
                 OtpFor.REGISTER,
                 OtpStatus.ACTIVE
         ).orElseThrow(() -> new BadRequestException(ErrorData.NOT_OTP_FOR_REGISTER_FOUND));
-        if (!passwordEncoder.matches(otp, otpEntity.getOtp())) {
+        if (!otpHasher.matches(otpEntity.getOtpId(), otp, otpEntity.getOtp(), otpEntity.getExpiryDate())) {
             throw new BadRequestException(ErrorData.INVALID_REGISTER_OTP);
         }
         LocalDateTime now = LocalDateTime.now();
@@ -180,14 +175,14 @@ public class AuthServiceImpl implements AuthService {
         if (userAuthOptional.isEmpty()) {
             otpEntity.setOtpStatus(OtpStatus.DELETED);
             OtpEntity otpEntityResponse = otpEntityRepository.save(otpEntity);
-            log.info("{}::registerOtpVerification -> OTP marked as DELETED for userId: {}, response: {}", this.getClass().getSimpleName(), userId, otpEntityResponse.toJson());
+            log.info("{}::registerOtpVerification -> OTP marked as DELETED for userId: {}, response: {}", this.getClass().getSimpleName(), userId, otpEntityResponse.lazyJson());
             throw new BadRequestException(ErrorData.USER_NOT_FOUND_BY_ID);
         }
         UserAuth userAuth = userAuthOptional.get();
         if (Boolean.TRUE.equals(userAuth.isEmailVerified())) {
             otpEntity.setOtpStatus(OtpStatus.DELETED);
             OtpEntity otpEntityResponse = otpEntityRepository.save(otpEntity);
-            log.info("{}::registerOtpVerification -> OTP marked as DELETED for userId: {}, response: {}", this.getClass().getSimpleName(), userId, otpEntityResponse.toJson());
+            log.info("{}::registerOtpVerification -> OTP marked as DELETED for userId: {}, response: {}", this.getClass().getSimpleName(), userId, otpEntityResponse.lazyJson());
             throw new BadRequestException(ErrorData.USER_ALREADY_REGISTERED);
         }
         if (otpEntity.getExpiryDate().isBefore(now)) {
@@ -195,11 +190,11 @@ public class AuthServiceImpl implements AuthService {
         }
         userAuth.setEmailVerified(true);
         UserAuth userAuthResponse = userAuthRepository.save(userAuth);
-        log.info("{}::registerOtpVerification -> User email verified successfully for userId: {}, response: {}", this.getClass().getSimpleName(), userId, userAuthResponse.toJson());
+        log.info("{}::registerOtpVerification -> User email verified successfully for userId: {}, response: {}", this.getClass().getSimpleName(), userId, userAuthResponse.lazyJson());
         userAuthCache.put(userAuthResponse);
         otpEntity.setOtpStatus(OtpStatus.DELETED);
         OtpEntity otpEntityResponse = otpEntityRepository.save(otpEntity);
-        log.info("{}::registerOtpVerification -> OTP marked as DELETED for userId: {}, response: {}", this.getClass().getSimpleName(), userId, otpEntityResponse.toJson());
+        log.info("{}::registerOtpVerification -> OTP marked as DELETED for userId: {}, response: {}", this.getClass().getSimpleName(), userId, otpEntityResponse.lazyJson());
         return ResponseEntity.ok(
                 ModuleResponse
                         .builder()
@@ -279,7 +274,7 @@ public class AuthServiceImpl implements AuthService {
                 OtpFor.FORGOT_PASSWORD,
                 OtpStatus.ACTIVE
         ).orElseThrow(() -> new BadRequestException(ErrorData.NOT_OTP_FOR_REGISTER_FOUND));
-        if (!passwordEncoder.matches(forgotPasswordRequest.getOtp(), otpEntity.getOtp())) {
+        if (!otpHasher.matches(otpEntity.getOtpId(), forgotPasswordRequest.getOtp(), otpEntity.getOtp(), otpEntity.getExpiryDate())) {
             throw new BadRequestException(ErrorData.INVALID_FORGOT_PASSWORD_OTP);
         }
         LocalDateTime now = LocalDateTime.now();
@@ -287,14 +282,14 @@ public class AuthServiceImpl implements AuthService {
         if (userAuthOptional.isEmpty()) {
             otpEntity.setOtpStatus(OtpStatus.DELETED);
             OtpEntity otpEntityResponse = otpEntityRepository.save(otpEntity);
-            log.info("{}::forgotPassword -> OTP marked as DELETED for userId: {}, response: {}", this.getClass().getSimpleName(), userId, otpEntityResponse.toJson());
+            log.info("{}::forgotPassword -> OTP marked as DELETED for userId: {}, response: {}", this.getClass().getSimpleName(), userId, otpEntityResponse.lazyJson());
             throw new BadRequestException(ErrorData.USER_NOT_FOUND_BY_ID);
         }
         UserAuth userAuth = userAuthOptional.get();
         if (Boolean.FALSE.equals(userAuth.isEmailVerified())) {
             otpEntity.setOtpStatus(OtpStatus.DELETED);
             OtpEntity otpEntityResponse = otpEntityRepository.save(otpEntity);
-            log.info("{}::forgotPassword -> OTP marked as DELETED for userId: {}, response: {}", this.getClass().getSimpleName(), userId, otpEntityResponse.toJson());
+            log.info("{}::forgotPassword -> OTP marked as DELETED for userId: {}, response: {}", this.getClass().getSimpleName(), userId, otpEntityResponse.lazyJson());
             throw new BadRequestException(ErrorData.USER_NOT_ENABLED);
         }
         if (otpEntity.getExpiryDate().isBefore(now)) {
@@ -304,11 +299,12 @@ public class AuthServiceImpl implements AuthService {
         userAuth.setPassword(passwordEncoder.encode(forgotPasswordRequest.getPassword()));
         userAuth.setLastPasswordChange(now);
         UserAuth userAuthResponse = userAuthRepository.save(userAuth);
-        log.info("{}::forgotPassword -> User password updated successfully for userId: {}, response: {}", this.getClass().getSimpleName(), userId, userAuthResponse.toJson());
+        log.info("{}::forgotPassword -> User password updated successfully for userId: {}, response: {}", this.getClass().getSimpleName(), userId, userAuthResponse.lazyJson());
         userAuthCache.put(userAuthResponse);
+        sessionRevocationProcessor.revokeAll(userId);
         otpEntity.setOtpStatus(OtpStatus.DELETED);
         OtpEntity otpEntityResponse = otpEntityRepository.save(otpEntity);
-        log.info("{}::forgotPassword -> OTP marked as DELETED for userId: {}, response: {}", this.getClass().getSimpleName(), userId, otpEntityResponse.toJson());
+        log.info("{}::forgotPassword -> OTP marked as DELETED for userId: {}, response: {}", this.getClass().getSimpleName(), userId, otpEntityResponse.lazyJson());
         return ResponseEntity.ok(
                 ModuleResponse
                         .builder()
@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -36,8 +36,8 @@ package com.revquix.backend.auth.service.impl;
 
 import com.revquix.backend.application.exception.ErrorData;
 import com.revquix.backend.application.exception.payload.BadRequestException;
+import com.revquix.backend.auth.cache.RoleCatalog;
 import com.revquix.backend.auth.cache.UserAuthCache;
-import com.revquix.backend.auth.dao.repository.RoleRepository;
 import com.revquix.backend.auth.dao.repository.UserAuthRepository;
 import com.revquix.backend.auth.guardrails.AssignRoleRequestValidator;
 import com.revquix.backend.auth.guardrails.GenericUserValidator;
@@ -63,12 +63,12 @@ public class AuthorizationServiceImpl implements AuthorizationService {
 
     private final UserAuthCache userAuthCache;
     private final UserAuthRepository userAuthRepository;
-    private final RoleRepository roleRepository;
+    private final RoleCatalog roleCatalog;
     private final AssignRoleRequestValidator assignRoleRequestValidator;
 
     @Override
     public ResponseEntity<AssignRoleResponse> assignRoles(AssignRoleRequest assignRoleRequest) {
-        log.info("{}:: Assign Roles to User: {}", this.getClass().getSimpleName(), assignRoleRequest.toJson());
+        log.info("{}:: Assign Roles to User: {}", this.getClass().getSimpleName(), assignRoleRequest.lazyJson());
         assignRoleRequestValidator.validate(assignRoleRequest);
         UserAuth assigneeUserAuth = userAuthCache.findById(assignRoleRequest.getUserId())
                 .orElseThrow(() -> new BadRequestException(ErrorData.ASSIGNEE_USER_NOT_FOUND));
@@ -87,7 +87,7 @@ public class AuthorizationServiceImpl implements AuthorizationService {
                     .stream()
                     .anyMatch(roleData -> roleData.getRole().equals(role));
             if (!hasRole) {
-                Role roleData = roleRepository.findByRole(role)
+                Role roleData = roleCatalog.findByName(role)
                         .orElseThrow(() -> new BadRequestException(ErrorData.ROLE_NOT_FOUND_NAME));
                 assigneeUserAuth.getRoles().add(roleData);
             }
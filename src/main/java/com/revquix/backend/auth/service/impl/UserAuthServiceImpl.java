@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -34,21 +34,37 @@ package com.revquix.backend.auth.service.impl;
   File: UserAuthServiceImpl
  */
 
+import com.revquix.backend.application.constants.ServiceConstants;
 import com.revquix.backend.application.exception.ErrorData;
 import com.revquix.backend.application.exception.payload.BadRequestException;
 import com.revquix.backend.auth.cache.UserAuthCache;
+import com.revquix.backend.auth.dao.repository.RefreshTokenRepository;
 import com.revquix.backend.auth.dao.repository.UserAuthRepository;
 import com.revquix.backend.auth.model.UserAuth;
 import com.revquix.backend.auth.payload.request.MfaRequest;
+import com.revquix.backend.auth.payload.response.LogoutResponse;
 import com.revquix.backend.auth.payload.response.ModuleResponse;
+import com.revquix.backend.auth.payload.response.SessionResponse;
+import com.revquix.backend.auth.processor.SessionRevocationProcessor;
+import com.revquix.backend.auth.properties.AuthenticationProperties;
 import com.revquix.backend.auth.service.UserAuthService;
 import com.revquix.backend.auth.util.IdentityProvider;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -57,6 +73,10 @@ public class UserAuthServiceImpl implements UserAuthService {
     private final UserAuthCache userAuthCache;
     private final UserAuthRepository userAuthRepository;
     private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final SessionRevocationProcessor sessionRevocationProcessor;
+    private final AuthenticationProperties authenticationProperties;
+    private final HttpServletRequest httpServletRequest;
 
     @Override
     public ResponseEntity<ModuleResponse> toggleMfa(MfaRequest mfaRequest) {
@@ -79,4 +99,50 @@ public class UserAuthServiceImpl implements UserAuthService {
                         .build()
         );
     }
+
+    @Override
+    public ResponseEntity<List<SessionResponse>> sessions() {
+        log.info("{}::sessions -> List sessions service called", getClass().getSimpleName());
+        String userId = IdentityProvider.getOrThrow().getUserId();
+        String currentJti = currentJti();
+        List<SessionResponse> sessions = refreshTokenRepository.findByUserIdAndExpiresInGreaterThanOrderByDateCreatedDesc(userId, System.currentTimeMillis())
+                .stream()
+                .map(refreshToken -> SessionResponse
+                        .builder()
+                        .sessionId(refreshToken.getJti())
+                        .remoteAddress(refreshToken.getRemoteAddress())
+                        .dateCreated(refreshToken.getDateCreated())
+                        .expiresAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(refreshToken.getExpiresIn()), ZoneId.systemDefault()))
+                        .current(refreshToken.getJti().equals(currentJti))
+                        .build()
+                )
+                .toList();
+        return ResponseEntity.ok(sessions);
+    }
+
+    @Override
+    @Transactional
+    public ResponseEntity<LogoutResponse> logoutAll() {
+        log.info("{}::logoutAll -> Logout from all devices service called", getClass().getSimpleName());
+        String userId = IdentityProvider.getOrThrow().getUserId();
+        int revoked = sessionRevocationProcessor.revokeAll(userId);
+        AuthenticationProperties.TokenInfo tokenInfo = authenticationProperties.getInfo();
+        ResponseCookie clearCookie = ResponseCookie
+                .from(tokenInfo.getRefreshTokenCookieName(), null)
+                .httpOnly(true)
+                .maxAge(0L)
+                .path("/")
+                .sameSite(tokenInfo.getIsProduction() ? "Strict" : "Lax")
+                .secure(tokenInfo.getIsProduction())
+                .domain(null)
+                .build();
+        return ResponseEntity
+                .ok()
+                .header(HttpHeaders.SET_COOKIE, clearCookie.toString())
+                .body(LogoutResponse.builder().localizedMessage(String.format("Logged out from %d sessions", revoked)).build());
+    }
+
+    private String currentJti() {
+        return httpServletRequest.getAttribute(ServiceConstants.DECODED_JWT) instanceof Jwt jwt ? jwt.getId() : null;
+    }
 }
@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -38,11 +38,9 @@ import com.revquix.backend.application.constants.ServiceConstants;
 import com.revquix.backend.application.exception.ErrorData;
 import com.revquix.backend.application.exception.payload.InternalServerException;
 import com.revquix.backend.application.utils.IpUtils;
-import com.revquix.backend.auth.cache.RoleCache;
-import com.revquix.backend.auth.dao.repository.RoleRepository;
+import com.revquix.backend.auth.cache.RoleCatalog;
 import com.revquix.backend.auth.model.Role;
 import com.revquix.backend.auth.model.UserAuth;
-import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -56,18 +54,9 @@ import java.util.List;
 @Slf4j
 public class RegisterUserTransformer {
 
-    private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
     private final IpUtils ipUtils;
-    private final RoleCache roleCache;
-
-    private List<Role> allRoles;
-
-    @PostConstruct
-    private void init() {
-        allRoles = roleRepository.findAll();
-        log.info("{}::init -> Cached all roles: {}", this.getClass().getSimpleName(), allRoles);
-    }
+    private final RoleCatalog roleCatalog;
 
     public UserAuth transform(String email, String password) {
         log.info("{}::transform -> Transforming registration data for email: {}", this.getClass().getSimpleName(), email);
@@ -82,15 +71,15 @@ public class RegisterUserTransformer {
                 .registerIp(ipUtils.getIpv4())
                 .roles(roles)
                 .build();
-        log.info("{}::transform -> Transformed UserAuth: {}", this.getClass().getSimpleName(), userAuth.toJson());
+        log.info("{}::transform -> Transformed UserAuth: {}", this.getClass().getSimpleName(), userAuth.lazyJson());
         return userAuth;
     }
 
     private void populateRoles(String email, List<Role> roles) {
         if (email.endsWith("@revquix.com")) {
-            roles.addAll(allRoles);
+            roles.addAll(roleCatalog.all());
         } else {
-            roleCache.findById("user")
+            roleCatalog.findById("user")
                     .ifPresentOrElse(
                             roles::add,
                             ()-> {
@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -41,12 +41,13 @@ import java.security.SecureRandom;
 @Slf4j
 public class OtpGenerator {
 
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
     public static final String generate(int digits) {
         log.info("{}::generate -> Generating OTP of {} digits", OtpGenerator.class.getSimpleName(), digits);
-        StringBuilder string = new StringBuilder();
-        SecureRandom secureRandom = new SecureRandom();
+        StringBuilder string = new StringBuilder(digits);
         for (int i=0 ; i<digits ; i++){
-            string.append(secureRandom.nextInt(9));
+            string.append(SECURE_RANDOM.nextInt(10));
         }
         return string.toString();
     };
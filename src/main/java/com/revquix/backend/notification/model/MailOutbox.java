@@ -0,0 +1,106 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.notification.model;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: MailOutbox
+ */
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.revquix.backend.application.constants.ModelConstants;
+import com.revquix.backend.application.utils.MaskingSerializer;
+import com.revquix.backend.application.utils.ModelPayload;
+import com.revquix.backend.notification.enums.MailStatus;
+import com.revquix.backend.notification.enums.MailType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Table(
+        name = ModelConstants.MAIL_OUTBOX_TABLE,
+        schema = ModelConstants.AUTH_SCHEMA
+)
+@EntityListeners(AuditingEntityListener.class)
+public class MailOutbox extends ModelPayload<MailOutbox> {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String mailId;
+
+    @Column(nullable = false, updatable = false)
+    @Enumerated(EnumType.STRING)
+    private MailType mailType;
+
+    @Column(nullable = false, updatable = false)
+    private String recipient;
+
+    /**
+     * Template variables as AES-GCM encrypted JSON. It carries the OTP until the mail is sent, so it
+     * is cleared once the row reaches {@link MailStatus#SENT} or {@link MailStatus#DEAD}.
+     */
+    @Column(columnDefinition = "TEXT")
+    @JsonSerialize(using = MaskingSerializer.class)
+    private String payload;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private MailStatus status;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime dateCreated;
+
+    @LastModifiedDate
+    @Column(nullable = false)
+    private LocalDateTime dateUpdated;
+}
@@ -0,0 +1,171 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.notification.processor;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: MailOutboxDispatcher
+ */
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.revquix.backend.notification.model.MailOutbox;
+import com.revquix.backend.notification.payload.ForgotPasswordOtpPayload;
+import com.revquix.backend.notification.payload.MfaOtpPayload;
+import com.revquix.backend.notification.payload.RegistrationOtpPayload;
+import com.revquix.backend.notification.properties.MailProperties;
+import com.revquix.backend.notification.service.MailOutboxService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Drains {@code auth.mail_outbox} in the background. Each poll claims at most as many rows as there
+ * are idle sender threads, so a slow mail provider backs rows up in the table instead of in memory.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MailOutboxDispatcher {
+
+    private final MailOutboxService mailOutboxService;
+    private final MailProperties mailProperties;
+    private final ObjectMapper objectMapper;
+    private final SendRegistrationOtpMail sendRegistrationOtpMail;
+    private final SendForgotPasswordOtpMail sendForgotPasswordOtpMail;
+    private final SendMfaOtpMail sendMfaOtpMail;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    private AsyncTaskExecutor senderExecutor;
+    private Semaphore senderSlots;
+
+    @PostConstruct
+    public void init() {
+        int concurrency = Math.max(1, mailProperties.getOutbox().getConcurrency());
+        log.info("{}::init -> Creating mail sender pool with concurrency: {}", getClass().getSimpleName(), concurrency);
+        senderSlots = new Semaphore(concurrency);
+        if (virtualThreadsEnabled) {
+            SimpleAsyncTaskExecutor virtualExecutor = new SimpleAsyncTaskExecutor("revquix-mail-");
+            virtualExecutor.setVirtualThreads(true);
+            virtualExecutor.setTaskTerminationTimeout(30000);
+            senderExecutor = virtualExecutor;
+            return;
+        }
+        ThreadPoolTaskExecutor platformExecutor = new ThreadPoolTaskExecutor();
+        platformExecutor.setCorePoolSize(concurrency);
+        platformExecutor.setMaxPoolSize(concurrency);
+        platformExecutor.setQueueCapacity(concurrency);
+        platformExecutor.setThreadNamePrefix("revquix-mail-");
+        platformExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        platformExecutor.setAwaitTerminationSeconds(30);
+        platformExecutor.initialize();
+        senderExecutor = platformExecutor;
+    }
+
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        MailProperties.Outbox outbox = mailProperties.getOutbox();
+        if (!outbox.isEnabled()) {
+            return;
+        }
+        int idle = senderSlots.availablePermits();
+        if (idle == 0) {
+            return;
+        }
+        List<MailOutbox> batch;
+        try {
+            batch = mailOutboxService.claimBatch(Math.min(idle, outbox.getBatchSize()));
+        } catch (Exception exception) {
+            log.error("{}::dispatch -> Failed to claim outbox mails: {}", getClass().getSimpleName(), exception.getMessage(), exception);
+            return;
+        }
+        for (MailOutbox mailOutbox : batch) {
+            senderSlots.acquireUninterruptibly();
+            try {
+                senderExecutor.execute(() -> {
+                    try {
+                        send(mailOutbox);
+                    } finally {
+                        senderSlots.release();
+                    }
+                });
+            } catch (RuntimeException exception) {
+                senderSlots.release();
+                log.error("{}::dispatch -> Sender pool rejected mail {}, lease will expire and it will be retried", getClass().getSimpleName(), mailOutbox.getMailId());
+            }
+        }
+    }
+
+    private void send(MailOutbox mailOutbox) {
+        Map<String, String> payload;
+        try {
+            payload = mailOutboxService.readPayload(mailOutbox);
+        } catch (Exception exception) {
+            log.error("{}::send -> Unreadable payload for {} mail {}: {}", getClass().getSimpleName(), mailOutbox.getMailType(), mailOutbox.getMailId(), exception.getMessage());
+            mailOutboxService.markDead(mailOutbox.getMailId(), exception);
+            return;
+        }
+        try {
+            switch (mailOutbox.getMailType()) {
+                case REGISTRATION_OTP -> sendRegistrationOtpMail.execute(objectMapper.convertValue(payload, RegistrationOtpPayload.class));
+                case FORGOT_PASSWORD_OTP -> sendForgotPasswordOtpMail.execute(objectMapper.convertValue(payload, ForgotPasswordOtpPayload.class));
+                case MFA_OTP -> sendMfaOtpMail.execute(objectMapper.convertValue(payload, MfaOtpPayload.class));
+            }
+            mailOutboxService.markSent(mailOutbox.getMailId());
+        } catch (Exception exception) {
+            log.error("{}::send -> Failed to send {} mail {}: {}", getClass().getSimpleName(), mailOutbox.getMailType(), mailOutbox.getMailId(), exception.getMessage());
+            mailOutboxService.markFailed(mailOutbox.getMailId(), exception);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (senderExecutor != null) {
+            log.info("{}::destroy -> Shutting down mail sender pool gracefully", getClass().getSimpleName());
+            if (senderExecutor instanceof ThreadPoolTaskExecutor platformExecutor) {
+                platformExecutor.shutdown();
+            } else if (senderExecutor instanceof SimpleAsyncTaskExecutor virtualExecutor) {
+                virtualExecutor.close();
+            }
+        }
+    }
+}
@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -47,7 +47,7 @@ public class SendForgotPasswordOtpMail {
     private final SpringTemplateEngine templateEngine;
 
     public void execute(ForgotPasswordOtpPayload forgotPasswordOtpPayload) {
-        log.info("{}::execute -> Sending Forgot Password OTP mail {}", getClass().getSimpleName(), forgotPasswordOtpPayload.toJson());
+        log.info("{}::execute -> Sending Forgot Password OTP mail {}", getClass().getSimpleName(), forgotPasswordOtpPayload.lazyJson());
         MailProperties.ForgotPassword forgotPassword = mailProperties.getZeptoMail().getForgotPassword();
         ZeptoMailResponse zeptoMailResponse = zeptoMailService.send(
                 forgotPassword.getPrefix(),
@@ -56,7 +56,7 @@ public class SendForgotPasswordOtpMail {
                 prepareContext(forgotPasswordOtpPayload),
                 forgotPassword.getName()
         );
-        log.info("{}::execute -> OTP mail sent successfully with response: {}", getClass().getSimpleName(), zeptoMailResponse.toJson());
+        log.info("{}::execute -> OTP mail sent successfully with response: {}", getClass().getSimpleName(), zeptoMailResponse.lazyJson());
     }
 
     private String prepareContext(ForgotPasswordOtpPayload forgotPasswordOtpPayload) {
@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -34,11 +34,7 @@ package com.revquix.backend.notification.processor;
   File: SendMfaOtpMail
  */
 
-import com.revquix.backend.application.payload.IPResponse;
-import com.revquix.backend.application.service.IpService;
-import com.revquix.backend.application.utils.DateUtil;
-import com.revquix.backend.application.utils.IpUtils;
-import com.revquix.backend.application.utils.ServletUtil;
+import com.revquix.backend.application.service.GeoLocationService;
 import com.revquix.backend.notification.payload.MfaOtpPayload;
 import com.revquix.backend.notification.payload.RegistrationOtpPayload;
 import com.revquix.backend.notification.payload.ZeptoMailResponse;
@@ -50,8 +46,6 @@ import org.springframework.stereotype.Component;
 import org.thymeleaf.context.Context;
 import org.thymeleaf.spring6.SpringTemplateEngine;
 
-import java.time.LocalDateTime;
-
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -59,9 +53,7 @@ public class SendMfaOtpMail {
 
     private final MailProperties mailProperties;
     private final ZeptoMailService zeptoMailService;
-    private final IpService ipService;
-    private final IpUtils ipUtils;
-    private final ServletUtil servletUtil;
+    private final GeoLocationService geoLocationService;
     private final SpringTemplateEngine templateEngine;
 
     public void execute(MfaOtpPayload mfaOtpPayload) {
@@ -75,7 +67,7 @@ public class SendMfaOtpMail {
                 prepareContext(mfaOtpPayload),
                 mfa.getName()
         );
-        log.info("{}::execute -> OTP mail sent successfully with response: {}", getClass().getSimpleName(), zeptoMailResponse.toJson());
+        log.info("{}::execute -> OTP mail sent successfully with response: {}", getClass().getSimpleName(), zeptoMailResponse.lazyJson());
     }
 
     private String prepareContext(MfaOtpPayload mfaOtpPayload) {
@@ -86,13 +78,12 @@ public class SendMfaOtpMail {
         return templateEngine.process(mfa.getTemplate(), context);
     }
 
+    /**
+     * Runs on the outbox dispatcher, so the request details were captured when the mail was queued
+     * and only the location lookup happens here.
+     */
     private void build(MfaOtpPayload mfaOtpPayload) {
         log.info("{}::build -> Building MFA OTP mail payload for email: {}", getClass().getSimpleName(), mfaOtpPayload.getEmail());
-        IPResponse ipResponse = ipService.getIpDetails(ipUtils.getIpv4());
-        mfaOtpPayload.setOs(servletUtil.os());
-        mfaOtpPayload.setBrowser(servletUtil.browser());
-        mfaOtpPayload.setRemoteAddress(ipUtils.getIpv4());
-        mfaOtpPayload.setTimestamp(DateUtil.templateFormattedDate(LocalDateTime.now()));
-        mfaOtpPayload.setLocation(String.format("%s, %s", ipResponse.getCity(), ipResponse.getCountry()));
+        mfaOtpPayload.setLocation(geoLocationService.resolve(mfaOtpPayload.getRemoteAddress()).display());
     }
 }
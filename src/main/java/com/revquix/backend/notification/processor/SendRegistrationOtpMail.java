@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -54,7 +54,7 @@ public class SendRegistrationOtpMail {
     private final SpringTemplateEngine templateEngine;
 
     public void execute(RegistrationOtpPayload registrationOtpPayload) {
-        log.info("{}::execute -> Sending registration OTP mail {}", getClass().getSimpleName(), registrationOtpPayload.toJson());
+        log.info("{}::execute -> Sending registration OTP mail {}", getClass().getSimpleName(), registrationOtpPayload.lazyJson());
         MailProperties.Registration registration = mailProperties.getZeptoMail().getRegistration();
         ZeptoMailResponse zeptoMailResponse = zeptoMailService.send(
                 registration.getPrefix(),
@@ -63,7 +63,7 @@ public class SendRegistrationOtpMail {
                 prepareContext(registrationOtpPayload),
                 registration.getName()
         );
-        log.info("{}::execute -> OTP mail sent successfully with response: {}", getClass().getSimpleName(), zeptoMailResponse.toJson());
+        log.info("{}::execute -> OTP mail sent successfully with response: {}", getClass().getSimpleName(), zeptoMailResponse.lazyJson());
     }
 
     private String prepareContext(RegistrationOtpPayload registrationOtpPayload) {
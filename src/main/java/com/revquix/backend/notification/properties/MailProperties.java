@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -49,6 +49,7 @@ public class MailProperties {
 
     private ZeptoMail zeptoMail;
     private MailDomain mailDomain;
+    private Outbox outbox = new Outbox();
 
     @Getter
     @Setter
@@ -98,4 +99,26 @@ public class MailProperties {
         private String context;
         private String name = "Revquix Security";
     }
+
+    @Getter
+    @Setter
+    public static class Outbox {
+        private boolean enabled = true;
+        private long pollIntervalMs = 1000;
+        private int batchSize = 20;
+        private int concurrency = 4;
+        private int maxAttempts = 6;
+        private long initialBackoffSeconds = 10;
+        private long maxBackoffSeconds = 900;
+        /**
+         * How long a claimed row stays invisible to other dispatchers. Must outlast one
+         * {@code ZeptoMailService.send} call including its in-process retries.
+         */
+        private long leaseSeconds = 300;
+        /**
+         * Base64 AES key (16, 24 or 32 bytes) for the queued payloads. Every instance needs the same
+         * value, rows encrypted under a previous key can no longer be sent.
+         */
+        private String payloadKey;
+    }
 }
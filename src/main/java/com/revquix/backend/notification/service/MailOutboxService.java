@@ -0,0 +1,235 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.notification.service;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: MailOutboxService
+ */
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.revquix.backend.application.exception.ErrorData;
+import com.revquix.backend.application.exception.payload.InternalServerException;
+import com.revquix.backend.notification.dao.repository.MailOutboxRepository;
+import com.revquix.backend.notification.enums.MailStatus;
+import com.revquix.backend.notification.enums.MailType;
+import com.revquix.backend.notification.model.MailOutbox;
+import com.revquix.backend.notification.properties.MailProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MailOutboxService {
+
+    private static final TypeReference<Map<String, String>> PAYLOAD_TYPE = new TypeReference<>() {};
+    private static final int LAST_ERROR_LENGTH = 1000;
+    private static final String ENCRYPTED_PREFIX = "e1$";
+    private static final String CIPHER = "AES/GCM/NoPadding";
+    private static final int IV_BYTES = 12;
+    private static final int TAG_BITS = 128;
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailProperties mailProperties;
+    private final ObjectMapper objectMapper;
+
+    private SecretKeySpec payloadKey;
+
+    @PostConstruct
+    public void init() {
+        String configuredKey = mailProperties.getOutbox().getPayloadKey();
+        byte[] key;
+        try {
+            key = configuredKey == null ? new byte[0] : Base64.getDecoder().decode(configuredKey.trim());
+        } catch (IllegalArgumentException exception) {
+            key = new byte[0];
+        }
+        if (key.length != 16 && key.length != 24 && key.length != 32) {
+            log.error("{}::init -> Mail outbox payload key is missing or not a base64 AES key", getClass().getSimpleName());
+            throw new InternalServerException(ErrorData.MAIL_OUTBOX_KEY_NOT_CONFIGURED);
+        }
+        payloadKey = new SecretKeySpec(key, "AES");
+    }
+
+    /**
+     * Writes the mail to the outbox as part of the caller's transaction, so the mail becomes visible
+     * to the dispatcher exactly when the OTP row it belongs to commits.
+     */
+    @Transactional
+    public MailOutbox enqueue(MailType mailType, String recipient, Map<String, String> payload) {
+        log.info("{}::enqueue -> Queueing {} mail for recipient: {}", getClass().getSimpleName(), mailType, recipient);
+        MailOutbox mailOutbox = MailOutbox
+                .builder()
+                .mailType(mailType)
+                .recipient(recipient)
+                .payload(writePayload(payload))
+                .status(MailStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+        return mailOutboxRepository.save(mailOutbox);
+    }
+
+    /**
+     * Claims up to {@code limit} due mails for this node. Claimed rows move to {@link MailStatus#SENDING}
+     * with a lease in {@code nextAttemptAt}; the attempt is counted up front so a mail that keeps
+     * crashing its sender still ends up dead-lettered.
+     */
+    @Transactional
+    public List<MailOutbox> claimBatch(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MailOutbox> claimed = mailOutboxRepository.lockDue(now, limit);
+        LocalDateTime leaseUntil = now.plusSeconds(mailProperties.getOutbox().getLeaseSeconds());
+        for (MailOutbox mailOutbox : claimed) {
+            mailOutbox.setStatus(MailStatus.SENDING);
+            mailOutbox.setAttempts(mailOutbox.getAttempts() + 1);
+            mailOutbox.setNextAttemptAt(leaseUntil);
+        }
+        if (!claimed.isEmpty()) {
+            log.info("{}::claimBatch -> Claimed {} outbox mails", getClass().getSimpleName(), claimed.size());
+        }
+        return claimed;
+    }
+
+    @Transactional
+    public void markSent(String mailId) {
+        mailOutboxRepository.findById(mailId).ifPresent(mailOutbox -> {
+            mailOutbox.setStatus(MailStatus.SENT);
+            mailOutbox.setPayload(null);
+            mailOutbox.setLastError(null);
+            log.info("{}::markSent -> Mail {} sent after {} attempt(s)", getClass().getSimpleName(), mailId, mailOutbox.getAttempts());
+        });
+    }
+
+    @Transactional
+    public void markFailed(String mailId, Throwable throwable) {
+        mailOutboxRepository.findById(mailId).ifPresent(mailOutbox -> {
+            MailProperties.Outbox outbox = mailProperties.getOutbox();
+            mailOutbox.setLastError(truncate(String.valueOf(throwable.getMessage())));
+            if (mailOutbox.getAttempts() >= outbox.getMaxAttempts()) {
+                deadLetter(mailOutbox);
+                log.error("{}::markFailed -> Mail {} moved to dead letter after {} attempts", getClass().getSimpleName(), mailId, mailOutbox.getAttempts());
+                return;
+            }
+            long backoffSeconds = Math.min(
+                    outbox.getMaxBackoffSeconds(),
+                    outbox.getInitialBackoffSeconds() << Math.min(mailOutbox.getAttempts() - 1, 20)
+            );
+            mailOutbox.setStatus(MailStatus.PENDING);
+            mailOutbox.setNextAttemptAt(LocalDateTime.now().plusSeconds(backoffSeconds));
+            log.warn("{}::markFailed -> Mail {} failed on attempt {}, retrying in {}s", getClass().getSimpleName(), mailId, mailOutbox.getAttempts(), backoffSeconds);
+        });
+    }
+
+    /**
+     * Dead-letters the mail without further attempts, for failures a retry cannot fix such as a payload
+     * that no longer decrypts.
+     */
+    @Transactional
+    public void markDead(String mailId, Throwable throwable) {
+        mailOutboxRepository.findById(mailId).ifPresent(mailOutbox -> {
+            mailOutbox.setLastError(truncate(String.valueOf(throwable.getMessage())));
+            deadLetter(mailOutbox);
+            log.error("{}::markDead -> Mail {} moved to dead letter on attempt {}", getClass().getSimpleName(), mailId, mailOutbox.getAttempts());
+        });
+    }
+
+    public Map<String, String> readPayload(MailOutbox mailOutbox) {
+        try {
+            return objectMapper.readValue(decrypt(mailOutbox.getPayload()), PAYLOAD_TYPE);
+        } catch (JsonProcessingException | GeneralSecurityException | IllegalArgumentException exception) {
+            throw new InternalServerException(ErrorData.FAILED_TO_READ_MAIL_PAYLOAD, exception);
+        }
+    }
+
+    private void deadLetter(MailOutbox mailOutbox) {
+        mailOutbox.setStatus(MailStatus.DEAD);
+        mailOutbox.setPayload(null);
+    }
+
+    private String writePayload(Map<String, String> payload) {
+        try {
+            return encrypt(objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException | GeneralSecurityException exception) {
+            throw new InternalServerException(ErrorData.FAILED_TO_QUEUE_MAIL, exception);
+        }
+    }
+
+    /**
+     * Stored form: {@code e1$<iv>$<ciphertext>}, both base64url, AES-GCM under {@code mail.outbox.payload-key}.
+     */
+    private String encrypt(String plain) throws GeneralSecurityException {
+        byte[] iv = new byte[IV_BYTES];
+        SECURE_RANDOM.nextBytes(iv);
+        Cipher cipher = Cipher.getInstance(CIPHER);
+        cipher.init(Cipher.ENCRYPT_MODE, payloadKey, new GCMParameterSpec(TAG_BITS, iv));
+        byte[] encrypted = cipher.doFinal(plain.getBytes(StandardCharsets.UTF_8));
+        return ENCRYPTED_PREFIX + ENCODER.encodeToString(iv) + "$" + ENCODER.encodeToString(encrypted);
+    }
+
+    private String decrypt(String stored) throws GeneralSecurityException {
+        if (stored == null || !stored.startsWith(ENCRYPTED_PREFIX)) {
+            throw new IllegalArgumentException("Outbox payload is not encrypted");
+        }
+        int separator = stored.indexOf('$', ENCRYPTED_PREFIX.length());
+        if (separator < 0) {
+            throw new IllegalArgumentException("Malformed outbox payload");
+        }
+        byte[] iv = DECODER.decode(stored.substring(ENCRYPTED_PREFIX.length(), separator));
+        byte[] encrypted = DECODER.decode(stored.substring(separator + 1));
+        Cipher cipher = Cipher.getInstance(CIPHER);
+        cipher.init(Cipher.DECRYPT_MODE, payloadKey, new GCMParameterSpec(TAG_BITS, iv));
+        return new String(cipher.doFinal(encrypted), StandardCharsets.UTF_8);
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= LAST_ERROR_LENGTH ? message : message.substring(0, LAST_ERROR_LENGTH);
+    }
+}
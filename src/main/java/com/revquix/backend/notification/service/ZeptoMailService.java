@@ -1,7 +1,7 @@
 /**
  * Proprietary License Agreement
  * <p>
- * Copyright (c) 2025 Revquix
+ * Copyright (c) 2026 Revquix
  * <p>
  * This software is the confidential and proprietary property of Revquix and is provided under a
  * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
@@ -34,11 +34,15 @@ package com.revquix.backend.notification.service;
   File: ZeptoMailService
  */
 
+import com.revquix.backend.application.config.UpstreamWebClients;
+import com.revquix.backend.application.constants.ServiceConstants;
 import com.revquix.backend.application.exception.ErrorData;
 import com.revquix.backend.application.exception.payload.InternalServerException;
+import com.revquix.backend.application.exception.payload.UpstreamBulkheadFullException;
 import com.revquix.backend.notification.payload.ZeptoMailRequest;
 import com.revquix.backend.notification.payload.ZeptoMailResponse;
 import com.revquix.backend.notification.properties.MailProperties;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
@@ -61,15 +65,23 @@ import java.util.concurrent.TimeoutException;
 @Slf4j
 public class ZeptoMailService {
 
-    private final WebClient webClient;
+    private final UpstreamWebClients upstreamWebClients;
     private final MailProperties mailProperties;
 
+    private WebClient webClient;
+
+    @PostConstruct
+    public void init() {
+        webClient = upstreamWebClients.get(ServiceConstants.ZEPTO_MAIL_UPSTREAM);
+    }
+
     @Retryable(
             retryFor = {
                     WebClientResponseException.class,
                     ConnectException.class,
                     TimeoutException.class,
-                    WebClientRequestException.class
+                    WebClientRequestException.class,
+                    UpstreamBulkheadFullException.class
             },
             noRetryFor = {
                     WebClientResponseException.BadRequest.class,
@@ -113,7 +125,7 @@ public class ZeptoMailService {
     }
 
     @Recover
-    public ZeptoMailResponse recover(Exception e, String prefix, String to, String subject, String body) {
+    public ZeptoMailResponse recover(Exception e, String prefix, String to, String subject, String body, String name) {
         log.error("Failed to send email after all retry attempts. From: {}, To: {}, Subject: {}",
                 prefix, to, subject, e);
         throw new InternalServerException(ErrorData.FAILED_TO_SEND_MAIL_API_ERROR, e);
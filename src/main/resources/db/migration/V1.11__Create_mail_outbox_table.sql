@@ -0,0 +1,16 @@
+CREATE TABLE auth.mail_outbox (
+    mail_id VARCHAR(36) PRIMARY KEY,
+    mail_type VARCHAR(50) NOT NULL,
+    recipient VARCHAR(255) NOT NULL,
+    payload TEXT,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error VARCHAR(1000),
+    date_created TIMESTAMP NOT NULL,
+    date_updated TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_mail_outbox_due
+    ON auth.mail_outbox (next_attempt_at)
+    WHERE status IN ('PENDING', 'SENDING');
@@ -0,0 +1,3 @@
+-- Reserve user ids in blocks of 50 per nextval, matching @ModelId(allocationSize = 50) on UserAuth
+ALTER SEQUENCE auth.user_auth_id_seq
+    INCREMENT BY 50;
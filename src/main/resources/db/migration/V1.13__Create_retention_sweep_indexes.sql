@@ -0,0 +1,12 @@
+CREATE INDEX idx_refresh_token_expires_in
+    ON auth.refresh_token (expires_in);
+
+CREATE INDEX idx_mfa_expires_in
+    ON auth.mfa (expires_in);
+
+CREATE INDEX idx_otp_entity_expiry_date
+    ON auth.otp_entity (expiry_date);
+
+CREATE INDEX idx_mail_outbox_finished
+    ON auth.mail_outbox (date_updated)
+    WHERE status IN ('SENT', 'DEAD');
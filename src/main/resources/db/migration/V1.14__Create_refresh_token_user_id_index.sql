@@ -0,0 +1,2 @@
+CREATE INDEX idx_refresh_token_user_id
+    ON auth.refresh_token (user_id);
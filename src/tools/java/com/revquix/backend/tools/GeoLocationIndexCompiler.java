@@ -0,0 +1,166 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2026 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.backend.tools;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-backend
+  GitHub: github.com/rohit-zip
+  File: GeoLocationIndexCompiler
+ */
+
+import com.revquix.backend.application.utils.GeoLocationIndex;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds a {@link GeoLocationIndex} file from a CSV of {@code cidr,country,city} lines. Blank lines
+ * and lines starting with {@code #} are skipped; ranges must not overlap.
+ * <p>
+ * Offline tool, kept out of the application jar. Usage:
+ * {@code ./gradlew compileGeoIndex -Pgeo.input=<input.csv> -Pgeo.output=<output.idx>}
+ */
+public final class GeoLocationIndexCompiler {
+
+    private GeoLocationIndexCompiler() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2 || args[0].isBlank() || args[1].isBlank()) {
+            System.err.println("Usage: gradlew compileGeoIndex -Pgeo.input=<input.csv> -Pgeo.output=<output.idx>");
+            System.exit(1);
+        }
+        int ranges = compile(Path.of(args[0]), Path.of(args[1]));
+        System.out.printf("Wrote %d ranges to %s%n", ranges, args[1]);
+    }
+
+    public static int compile(Path input, Path output) throws IOException {
+        List<long[]> ranges = new ArrayList<>();
+        Map<String, Integer> locationIds = new LinkedHashMap<>();
+        List<String[]> locations = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split(",", 3);
+                if (columns.length != 3) {
+                    throw new IllegalArgumentException("Line " + lineNumber + ": expected cidr,country,city");
+                }
+                long[] range = parseCidr(columns[0].trim(), lineNumber);
+                String country = columns[1].trim();
+                String city = columns[2].trim();
+                Integer locationId = locationIds.get(city + "\n" + country);
+                if (locationId == null) {
+                    locationId = locations.size();
+                    locationIds.put(city + "\n" + country, locationId);
+                    locations.add(new String[]{city, country});
+                }
+                ranges.add(new long[]{range[0], range[1], locationId});
+            }
+        }
+        ranges.sort(Comparator.comparingLong(range -> range[0]));
+        for (int i = 1; i < ranges.size(); i++) {
+            if (ranges.get(i)[0] <= ranges.get(i - 1)[1]) {
+                throw new IllegalArgumentException("Overlapping ranges starting at " + formatIpv4(ranges.get(i)[0]));
+            }
+        }
+        write(output, ranges, locations);
+        return ranges.size();
+    }
+
+    private static void write(Path output, List<long[]> ranges, List<String[]> locations) throws IOException {
+        List<byte[][]> encoded = new ArrayList<>(locations.size());
+        for (String[] location : locations) {
+            encoded.add(new byte[][]{encode(location[0]), encode(location[1])});
+        }
+        try (OutputStream stream = Files.newOutputStream(output);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+            out.writeInt(GeoLocationIndex.MAGIC);
+            out.writeInt(GeoLocationIndex.VERSION);
+            out.writeInt(ranges.size());
+            out.writeInt(locations.size());
+            for (long[] range : ranges) {
+                out.writeInt((int) range[0]);
+                out.writeInt((int) range[1]);
+                out.writeInt((int) range[2]);
+            }
+            int offset = GeoLocationIndex.HEADER_BYTES + ranges.size() * GeoLocationIndex.RANGE_BYTES + locations.size() * 4;
+            for (byte[][] location : encoded) {
+                out.writeInt(offset);
+                offset += 4 + location[0].length + location[1].length;
+            }
+            for (byte[][] location : encoded) {
+                out.writeShort(location[0].length);
+                out.write(location[0]);
+                out.writeShort(location[1].length);
+                out.write(location[1]);
+            }
+        }
+    }
+
+    private static byte[] encode(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("Location name too long: " + value);
+        }
+        return bytes;
+    }
+
+    private static long[] parseCidr(String cidr, int lineNumber) {
+        int slash = cidr.indexOf('/');
+        long ip = GeoLocationIndex.parseIpv4(slash < 0 ? cidr : cidr.substring(0, slash));
+        int prefix = slash < 0 ? 32 : Integer.parseInt(cidr.substring(slash + 1));
+        if (ip < 0 || prefix < 0 || prefix > 32) {
+            throw new IllegalArgumentException("Line " + lineNumber + ": invalid IPv4 CIDR " + cidr);
+        }
+        long hostMask = prefix == 32 ? 0 : (1L << (32 - prefix)) - 1;
+        long start = ip & ~hostMask & 0xFFFFFFFFL;
+        return new long[]{start, start | hostMask};
+    }
+
+    private static String formatIpv4(long ip) {
+        return ((ip >>> 24) & 0xFF) + "." + ((ip >>> 16) & 0xFF) + "." + ((ip >>> 8) & 0xFF) + "." + (ip & 0xFF);
+    }
+}